@@ -0,0 +1,179 @@
+package com.courtvision.catalog;
+
+import com.courtvision.dto.NBAPlayerDTO;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming parser for the bundled player list (scrape/nba_players.csv)
+ *
+ * Reads one record at a time, so only the resulting players are held in memory. Columns are
+ * located by header name; quoted fields (with embedded commas, quotes or line breaks) are
+ * supported. Players get a synthetic, stable ID derived from their normalized name, since the
+ * CSV carries no SportsBlaze ID.
+ *
+ * Expected header: player_name,team_code,jersey_number,position,height_feet_inches,weight_pounds,college_name,...
+ */
+public class LocalPlayerCsvParser {
+
+    /**
+     * Prefix of the synthetic IDs given to players that only exist in the local list
+     */
+    public static final String LOCAL_ID_PREFIX = "local-";
+
+    /**
+     * Whether a player ID was assigned from the local list rather than by SportsBlaze
+     */
+    public static boolean isLocalId(String playerId) {
+        return playerId != null && playerId.startsWith(LOCAL_ID_PREFIX);
+    }
+
+    /**
+     * Parse the CSV
+     * @param body The CSV stream (closed once parsing completes)
+     * @return Players in file order; rows without a usable name are skipped
+     * @throws IOException if the stream cannot be read or has no player_name column
+     */
+    public List<NBAPlayerDTO> parse(InputStream body) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            List<String> header = readRecord(reader);
+            if (header == null) {
+                return new ArrayList<>();
+            }
+
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.putIfAbsent(header.get(i).trim().replace("\uFEFF", ""), i);
+            }
+            Integer nameColumn = columns.get("player_name");
+            if (nameColumn == null) {
+                throw new IOException("Player CSV has no player_name column");
+            }
+
+            List<NBAPlayerDTO> players = new ArrayList<>();
+            Map<String, String> sharedValues = new HashMap<>();
+            List<String> record;
+            while ((record = readRecord(reader)) != null) {
+                NBAPlayerDTO player = toPlayer(record, columns, nameColumn, sharedValues);
+                if (player != null) {
+                    players.add(player);
+                }
+            }
+            return players;
+        }
+    }
+
+    private NBAPlayerDTO toPlayer(List<String> record, Map<String, Integer> columns, int nameColumn,
+                                  Map<String, String> sharedValues) {
+        String name = field(record, nameColumn);
+        String normalized = PlayerNames.normalize(name);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+
+        // First token is the first name; the rest (including suffixes like "Jr." or "III") is the last name
+        String trimmed = name.trim();
+        int space = trimmed.indexOf(' ');
+        String firstName = space < 0 ? trimmed : trimmed.substring(0, space);
+        String lastName = space < 0 ? "" : trimmed.substring(space + 1).trim();
+
+        return NBAPlayerDTO.builder()
+                .playerId(LOCAL_ID_PREFIX + normalized.replace(' ', '-'))
+                .firstName(firstName)
+                .lastName(lastName)
+                .team(shared(field(record, columns.get("team_code")), sharedValues))
+                .position(shared(field(record, columns.get("position")), sharedValues))
+                .height(shared(field(record, columns.get("height_feet_inches")), sharedValues))
+                .weight(shared(field(record, columns.get("weight_pounds")), sharedValues))
+                .college(shared(field(record, columns.get("college_name")), sharedValues))
+                .jerseyNumber(parseJersey(field(record, columns.get("jersey_number"))))
+                .build();
+    }
+
+    /**
+     * Read one CSV record, following quoted fields across line breaks
+     * @return The fields, or null at end of input
+     */
+    private static List<String> readRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        while (line != null && line.isBlank()) {
+            line = reader.readLine();
+        }
+        if (line == null) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"') {
+                        if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            field.append('"');
+                            i++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            line = reader.readLine();
+            if (line == null) {
+                break;
+            }
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String field(List<String> record, Integer column) {
+        if (column == null || column >= record.size()) {
+            return null;
+        }
+        String value = record.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Integer parseJersey(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return (int) Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String shared(String value, Map<String, String> sharedValues) {
+        if (value == null) {
+            return null;
+        }
+        String existing = sharedValues.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+}
@@ -0,0 +1,429 @@
+package com.courtvision.catalog;
+
+import com.courtvision.dto.NBAPlayerDTO;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Immutable, indexed snapshot of the NBA player list
+ * Built once each time the player list is refreshed, so lookups never rescan
+ * or re-normalize the full list
+ *
+ * Players are addressed internally by ordinal (their position in the snapshot),
+ * and index postings are sorted ordinal arrays, so results keep the API's order
+ */
+public final class PlayerCatalog {
+
+    private static final int[] NO_ORDINALS = new int[0];
+
+    private static final PlayerCatalog EMPTY = new PlayerCatalog(Collections.emptyList());
+
+    private final NBAPlayerDTO[] players;
+    private final List<NBAPlayerDTO> playerList;
+
+    // Normalized "first last" per ordinal, null when the player has no full name
+    private final String[] searchNames;
+
+    // Name trigram -> ordinals of players whose full name contains it, plus each name's trigram count
+    private final Map<String, int[]> trigramIndex;
+    private final int[] trigramCounts;
+
+    // Prefix trie with per-node top suggestions for autocomplete
+    private final PlayerTrie autocomplete;
+
+    // Secondary indexes; team and position keys are lower-cased for case-insensitive lookups
+    private final Map<String, NBAPlayerDTO> playersById;
+    private final Map<String, int[]> teamIndex;
+    private final Map<String, int[]> positionIndex;
+    private final List<String> teams;
+    private final List<String> positions;
+
+    private PlayerCatalog(List<NBAPlayerDTO> source) {
+        this.players = source.toArray(new NBAPlayerDTO[0]);
+        this.playerList = Collections.unmodifiableList(Arrays.asList(players));
+        this.searchNames = new String[players.length];
+        this.trigramCounts = new int[players.length];
+
+        Map<String, NBAPlayerDTO> byId = new HashMap<>(players.length * 2);
+        Map<String, IntList> byTeam = new HashMap<>();
+        Map<String, IntList> byPosition = new HashMap<>();
+        TreeSet<String> distinctTeams = new TreeSet<>();
+        TreeSet<String> distinctPositions = new TreeSet<>();
+
+        Map<String, IntList> trigrams = new HashMap<>();
+        for (int ordinal = 0; ordinal < players.length; ordinal++) {
+            NBAPlayerDTO player = players[ordinal];
+
+            if (player.getPlayerId() != null) {
+                byId.putIfAbsent(player.getPlayerId(), player);
+            }
+            if (player.getTeam() != null && !player.getTeam().isEmpty()) {
+                byTeam.computeIfAbsent(lowerCase(player.getTeam()), key -> new IntList()).add(ordinal);
+                distinctTeams.add(player.getTeam());
+            }
+            if (player.getPosition() != null && !player.getPosition().isEmpty()) {
+                byPosition.computeIfAbsent(lowerCase(player.getPosition()), key -> new IntList()).add(ordinal);
+                distinctPositions.add(player.getPosition());
+            }
+
+            String fullName = PlayerNames.normalizeFullName(player.getFirstName(), player.getLastName());
+            if (fullName == null || fullName.isEmpty()) {
+                continue;
+            }
+            searchNames[ordinal] = fullName;
+
+            List<String> nameTrigrams = PlayerNames.trigrams(fullName);
+            trigramCounts[ordinal] = nameTrigrams.size();
+            for (String trigram : nameTrigrams) {
+                trigrams.computeIfAbsent(trigram, key -> new IntList()).add(ordinal);
+            }
+        }
+
+        this.trigramIndex = toPostings(trigrams);
+        this.autocomplete = new PlayerTrie(players, searchNames);
+        this.playersById = Collections.unmodifiableMap(byId);
+        this.teamIndex = toPostings(byTeam);
+        this.positionIndex = toPostings(byPosition);
+        this.teams = List.copyOf(distinctTeams);
+        this.positions = List.copyOf(distinctPositions);
+    }
+
+    /**
+     * Build a catalog from a freshly fetched player list
+     * @param players Players in API order (null is treated as empty)
+     * @return Indexed catalog
+     */
+    public static PlayerCatalog of(List<NBAPlayerDTO> players) {
+        if (players == null || players.isEmpty()) {
+            return EMPTY;
+        }
+        return new PlayerCatalog(players);
+    }
+
+    /**
+     * Catalog with no players
+     */
+    public static PlayerCatalog empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Combine this catalog with a fallback source
+     * Keeps every player of this catalog and appends the fallback players whose normalized
+     * full name is not already present, so this catalog wins on overlap
+     * @param fallback Lower-priority catalog (e.g. the bundled local list)
+     * @return The merged catalog (this catalog itself when nothing is added)
+     */
+    public PlayerCatalog withFallback(PlayerCatalog fallback) {
+        if (fallback == null || fallback.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return fallback;
+        }
+
+        Set<String> knownNames = new HashSet<>(players.length * 2);
+        for (String searchName : searchNames) {
+            if (searchName != null) {
+                knownNames.add(searchName);
+            }
+        }
+
+        List<NBAPlayerDTO> merged = new ArrayList<>(players.length + fallback.players.length);
+        merged.addAll(playerList);
+        for (int ordinal = 0; ordinal < fallback.players.length; ordinal++) {
+            String searchName = fallback.searchNames[ordinal];
+            if (searchName == null || !knownNames.contains(searchName)) {
+                merged.add(fallback.players[ordinal]);
+            }
+        }
+        return merged.size() == players.length ? this : new PlayerCatalog(merged);
+    }
+
+    /**
+     * All players in API order (unmodifiable)
+     */
+    public List<NBAPlayerDTO> getPlayers() {
+        return playerList;
+    }
+
+    public int size() {
+        return players.length;
+    }
+
+    public boolean isEmpty() {
+        return players.length == 0;
+    }
+
+    /**
+     * Search players by name (case- and accent-insensitive)
+     * Matches the term anywhere in the first, last or full name, so "son" finds Jackson and Johnson.
+     * Candidates come from intersecting the trigram postings of the term's longest word (every name
+     * containing the term contains those trigrams) and are then verified; terms without a word of
+     * three or more characters scan the pre-normalized names
+     * @param name The search term
+     * @return Matching players in catalog order (unmodifiable view)
+     */
+    public List<NBAPlayerDTO> searchByName(String name) {
+        String term = PlayerNames.normalize(name);
+        if (term.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int[] candidates = substringCandidates(term);
+        return view(candidates != null ? filterByName(candidates, term) : scanByName(term));
+    }
+
+    /**
+     * Rank players by trigram similarity to a name (typo- and order-tolerant, partial names allowed)
+     * Only players sharing at least one trigram with the query are scored, via the trigram postings
+     * @param name The name or partial name
+     * @param limit Maximum number of matches to return
+     * @param minSimilarity Matches below this similarity are dropped
+     * @return Matches, best first; ties keep catalog order
+     */
+    public List<PlayerMatch> matchByName(String name, int limit, double minSimilarity) {
+        String term = PlayerNames.normalize(name);
+        if (term.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<String> queryTrigrams = PlayerNames.trigrams(term);
+        int[] shared = new int[players.length];
+        IntList touched = new IntList();
+        for (String trigram : queryTrigrams) {
+            for (int ordinal : trigramIndex.getOrDefault(trigram, NO_ORDINALS)) {
+                if (shared[ordinal]++ == 0) {
+                    touched.add(ordinal);
+                }
+            }
+        }
+
+        int[] candidates = touched.toArray();
+        Arrays.sort(candidates);
+        List<PlayerMatch> matches = new ArrayList<>();
+        for (int ordinal : candidates) {
+            double similarity = similarity(shared[ordinal], queryTrigrams.size(), trigramCounts[ordinal]);
+            if (similarity >= minSimilarity) {
+                matches.add(new PlayerMatch(players[ordinal], similarity));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(PlayerMatch::getSimilarity).reversed());
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    /**
+     * Resolve a name to a single player, refusing ambiguous or weak matches
+     * @param name The name as entered (e.g. a draft pick)
+     * @param minSimilarity Similarity the best match must reach
+     * @param minMargin Lead the best match must have over the runner-up
+     * @return The confidently matched player's match, or null
+     */
+    public PlayerMatch resolveByName(String name, double minSimilarity, double minMargin) {
+        List<PlayerMatch> best = matchByName(name, 2, minSimilarity);
+        if (best.isEmpty()) {
+            return null;
+        }
+        PlayerMatch top = best.get(0);
+        if (best.size() > 1 && top.getSimilarity() - best.get(1).getSimilarity() < minMargin) {
+            return null;
+        }
+        return top;
+    }
+
+    /**
+     * Autocomplete index over this catalog's player names
+     */
+    public PlayerTrie getAutocomplete() {
+        return autocomplete;
+    }
+
+    /**
+     * Find a player by SportsBlaze player ID
+     * @return The player, or null if not in the catalog
+     */
+    public NBAPlayerDTO findById(String playerId) {
+        return playerId == null ? null : playersById.get(playerId);
+    }
+
+    /**
+     * Find players on a team (case-insensitive exact match)
+     */
+    public List<NBAPlayerDTO> findByTeam(String team) {
+        return team == null ? Collections.emptyList() : view(teamIndex.getOrDefault(lowerCase(team), NO_ORDINALS));
+    }
+
+    /**
+     * Find players at a position (case-insensitive exact match)
+     */
+    public List<NBAPlayerDTO> findByPosition(String position) {
+        return position == null ? Collections.emptyList() : view(positionIndex.getOrDefault(lowerCase(position), NO_ORDINALS));
+    }
+
+    /**
+     * Distinct non-empty team names, sorted
+     */
+    public List<String> getTeams() {
+        return teams;
+    }
+
+    /**
+     * Distinct non-empty positions, sorted
+     */
+    public List<String> getPositions() {
+        return positions;
+    }
+
+    /**
+     * Wrap a sorted ordinal array as a read-only player list without copying the players
+     */
+    List<NBAPlayerDTO> view(int[] ordinals) {
+        if (ordinals.length == 0) {
+            return Collections.emptyList();
+        }
+        return new OrdinalList(players, ordinals);
+    }
+
+    /**
+     * Ordinals of every player whose name could contain the term, or null if the term is too short to index
+     * A word of the term lies inside one word of a matching name, so each of its unpadded trigrams
+     * is one of that name's trigrams
+     */
+    private int[] substringCandidates(String term) {
+        String longest = "";
+        for (String word : term.split(" ")) {
+            if (word.length() > longest.length()) {
+                longest = word;
+            }
+        }
+        if (longest.length() < 3) {
+            return null;
+        }
+
+        int[] candidates = null;
+        for (int i = 0; i + 3 <= longest.length(); i++) {
+            int[] postings = trigramIndex.getOrDefault(longest.substring(i, i + 3), NO_ORDINALS);
+            candidates = candidates == null ? postings : intersect(candidates, postings);
+            if (candidates.length == 0) {
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] shared = new int[Math.min(a.length, b.length)];
+        int count = 0;
+        for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                shared[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(shared, count);
+    }
+
+    private int[] filterByName(int[] candidates, String term) {
+        int[] matches = new int[candidates.length];
+        int count = 0;
+        for (int ordinal : candidates) {
+            if (searchNames[ordinal].contains(term)) {
+                matches[count++] = ordinal;
+            }
+        }
+        return count == matches.length ? matches : Arrays.copyOf(matches, count);
+    }
+
+    private int[] scanByName(String term) {
+        IntList matches = new IntList();
+        for (int ordinal = 0; ordinal < searchNames.length; ordinal++) {
+            String searchName = searchNames[ordinal];
+            if (searchName != null && searchName.contains(term)) {
+                matches.add(ordinal);
+            }
+        }
+        return matches.toArray();
+    }
+
+    /**
+     * Mean of the Jaccard similarity (whole-name agreement) and the share of query trigrams found
+     * in the name (coverage), so a distinctive partial name like "Wembanyama" still scores well
+     * while a common one like "Jalen" scores the same for every Jalen
+     */
+    private static double similarity(int shared, int queryCount, int nameCount) {
+        double jaccard = (double) shared / (queryCount + nameCount - shared);
+        double coverage = (double) shared / queryCount;
+        return (jaccard + coverage) / 2;
+    }
+
+    private static String lowerCase(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, int[]> toPostings(Map<String, IntList> lists) {
+        Map<String, int[]> postings = new HashMap<>(lists.size() * 2);
+        lists.forEach((key, ordinals) -> postings.put(key, ordinals.toArray()));
+        return postings;
+    }
+
+    /**
+     * Read-only list view over a subset of catalog ordinals
+     */
+    private static final class OrdinalList extends AbstractList<NBAPlayerDTO> implements RandomAccess {
+
+        private final NBAPlayerDTO[] players;
+        private final int[] ordinals;
+
+        private OrdinalList(NBAPlayerDTO[] players, int[] ordinals) {
+            this.players = players;
+            this.ordinals = ordinals;
+        }
+
+        @Override
+        public NBAPlayerDTO get(int index) {
+            return players[ordinals[index]];
+        }
+
+        @Override
+        public int size() {
+            return ordinals.length;
+        }
+    }
+
+    /**
+     * Minimal growable int array used while building postings
+     */
+    static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return size == 0 ? NO_ORDINALS : Arrays.copyOf(values, size);
+        }
+    }
+}
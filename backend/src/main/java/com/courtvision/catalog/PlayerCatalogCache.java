@@ -0,0 +1,177 @@
+package com.courtvision.catalog;
+
+import com.courtvision.util.SingleFlight;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Single-entry, TTL-driven cache for the player catalog
+ *
+ * Serves the last good snapshot at all times and refreshes it in the background
+ * (stale-while-revalidate): callers never wait on the upstream API. Failed or empty
+ * loads are never cached; the previous snapshot stays in place and the next attempt
+ * is delayed by the failure backoff so an outage does not turn into a retry storm.
+ *
+ * Loads are single-flight: startup, TTL expiry and concurrent cold misses all share
+ * one in-flight upstream call and one parse.
+ */
+@Slf4j
+public class PlayerCatalogCache {
+
+    private final Supplier<PlayerCatalog> loader;
+    private final Executor refreshExecutor;
+    private final long ttlMillis;
+    private final long failureBackoffMillis;
+    private final long coldWaitMillis;
+
+    private final SingleFlight<PlayerCatalog> refreshFlight = new SingleFlight<>();
+
+    private volatile Snapshot current;
+    private volatile long lastFailureAt;
+
+    /**
+     * @param loader Loads a fresh catalog; returns null (or an empty catalog) when the load failed
+     * @param refreshExecutor Executor that runs background refreshes
+     * @param ttlMillis Age after which a snapshot is refreshed
+     * @param failureBackoffMillis Minimum delay between attempts after a failed load
+     * @param coldWaitMillis How long a caller waits on the shared in-flight load when no snapshot exists yet
+     */
+    public PlayerCatalogCache(Supplier<PlayerCatalog> loader, Executor refreshExecutor,
+                              long ttlMillis, long failureBackoffMillis, long coldWaitMillis) {
+        this.loader = loader;
+        this.refreshExecutor = refreshExecutor;
+        this.ttlMillis = ttlMillis;
+        this.failureBackoffMillis = failureBackoffMillis;
+        this.coldWaitMillis = coldWaitMillis;
+    }
+
+    /**
+     * Get the current catalog
+     * With a snapshot present this never blocks, and schedules a background refresh once the
+     * snapshot is older than the TTL. Without one, the caller joins the shared in-flight load
+     * for at most the cold wait, well below the upstream timeout.
+     * @return The last good catalog, or an empty catalog if none has loaded yet
+     */
+    public PlayerCatalog get() {
+        Snapshot snapshot = current;
+        if (snapshot != null) {
+            if (snapshot.isOlderThan(ttlMillis)) {
+                refreshAsync();
+            }
+            return snapshot.catalog();
+        }
+        return awaitFirstLoad();
+    }
+
+    /**
+     * Start a background refresh, or join the one already in flight
+     * Within the failure backoff no new load is started and the current catalog is returned
+     * @return Future completing with the catalog in effect after the refresh
+     */
+    public CompletableFuture<PlayerCatalog> refreshAsync() {
+        if (lastFailureAt > 0 && System.currentTimeMillis() - lastFailureAt < failureBackoffMillis) {
+            return CompletableFuture.completedFuture(currentCatalog());
+        }
+        return refreshFlight.execute(this::refresh, refreshExecutor);
+    }
+
+    /**
+     * Replace the snapshot directly (e.g. seeding from a local source)
+     * Empty catalogs are ignored
+     */
+    public void put(PlayerCatalog catalog) {
+        put(catalog, System.currentTimeMillis());
+    }
+
+    /**
+     * Replace the snapshot with a catalog loaded at a known time (e.g. restored from disk),
+     * so the TTL still counts from when the data was actually fetched
+     * Empty catalogs are ignored
+     */
+    public void put(PlayerCatalog catalog, long loadedAt) {
+        if (catalog != null && !catalog.isEmpty()) {
+            current = new Snapshot(catalog, loadedAt);
+        }
+    }
+
+    /**
+     * The current catalog, without triggering a refresh or waiting on a load
+     * A loader that finds the upstream data unchanged can return this to re-stamp the snapshot
+     * @return The last good catalog, or an empty catalog if none has loaded yet
+     */
+    public PlayerCatalog peek() {
+        return currentCatalog();
+    }
+
+    /**
+     * Whether a good snapshot has been loaded
+     */
+    public boolean isLoaded() {
+        return current != null;
+    }
+
+    private PlayerCatalog awaitFirstLoad() {
+        CompletableFuture<PlayerCatalog> flight = refreshAsync();
+        if (coldWaitMillis <= 0) {
+            return currentCatalog();
+        }
+        try {
+            PlayerCatalog loaded = flight.get(coldWaitMillis, TimeUnit.MILLISECONDS);
+            return loaded != null ? loaded : PlayerCatalog.empty();
+        } catch (TimeoutException | ExecutionException e) {
+            return currentCatalog();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return currentCatalog();
+        }
+    }
+
+    private PlayerCatalog refresh() {
+        try {
+            PlayerCatalog loaded = loader.get();
+            if (loaded != null && !loaded.isEmpty()) {
+                current = new Snapshot(loaded, System.currentTimeMillis());
+                lastFailureAt = 0;
+                log.info("Player catalog refreshed with {} players", loaded.size());
+            } else {
+                lastFailureAt = System.currentTimeMillis();
+                log.warn("Player catalog refresh returned no players; keeping {}",
+                        current != null ? "previous snapshot" : "empty catalog");
+            }
+        } catch (Exception e) {
+            lastFailureAt = System.currentTimeMillis();
+            log.error("Player catalog refresh failed", e);
+        }
+        return currentCatalog();
+    }
+
+    private PlayerCatalog currentCatalog() {
+        Snapshot snapshot = current;
+        return snapshot != null ? snapshot.catalog() : PlayerCatalog.empty();
+    }
+
+    private static final class Snapshot {
+
+        private final PlayerCatalog catalog;
+        private final long loadedAt;
+
+        private Snapshot(PlayerCatalog catalog, long loadedAt) {
+            this.catalog = catalog;
+            this.loadedAt = loadedAt;
+        }
+
+        PlayerCatalog catalog() {
+            return catalog;
+        }
+
+        boolean isOlderThan(long ttlMillis) {
+            return System.currentTimeMillis() - loadedAt >= ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.courtvision.catalog;
+
+import com.courtvision.dto.NBAPlayerDTO;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary snapshot of the player catalog, memory-mapped on startup
+ *
+ * Layout (big-endian):
+ * <pre>
+ * header   magic, version, playerCount, stringCount, eTagRef, lastModifiedRef (int each), savedAt (long)
+ * records  playerCount fixed-width records of RECORD_SIZE bytes:
+ *          playerId, firstName, lastName, position, team, teamId, height, weight, college (string refs),
+ *          salary (double, NaN = null), jerseyNumber (int, Integer.MIN_VALUE = null)
+ * strings  stringCount + 1 offsets (int) into the UTF-8 data that follows
+ * </pre>
+ * String refs index the string table (-1 = null); every distinct value is stored once, so team,
+ * position and other repeated values cost four bytes per player. Snapshots are written to a
+ * temporary file and atomically moved into place, so a reader never sees a partial file.
+ */
+@Getter
+public final class PlayerCatalogSnapshot {
+
+    private static final int MAGIC = 0x43565043; // "CVPC"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 6 * Integer.BYTES + Long.BYTES;
+    private static final int SAVED_AT_OFFSET = 6 * Integer.BYTES;
+    private static final int STRING_FIELDS = 9;
+    static final int RECORD_SIZE = STRING_FIELDS * Integer.BYTES + Double.BYTES + Integer.BYTES;
+    private static final int NULL_REF = -1;
+    private static final int NULL_JERSEY = Integer.MIN_VALUE;
+
+    private final PlayerCatalog catalog;
+    private final String eTag;
+    private final String lastModified;
+    private final long savedAt;
+
+    private PlayerCatalogSnapshot(PlayerCatalog catalog, String eTag, String lastModified, long savedAt) {
+        this.catalog = catalog;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+        this.savedAt = savedAt;
+    }
+
+    /**
+     * Write a catalog snapshot, replacing any previous one atomically
+     * @param path Snapshot file
+     * @param catalog The catalog to persist
+     * @param eTag ETag of the response the catalog was built from (nullable)
+     * @param lastModified Last-Modified of that response (nullable)
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(Path path, PlayerCatalog catalog, String eTag, String lastModified) throws IOException {
+        List<NBAPlayerDTO> players = catalog.getPlayers();
+        StringTable strings = new StringTable();
+        int eTagRef = strings.ref(eTag);
+        int lastModifiedRef = strings.ref(lastModified);
+
+        ByteBuffer records = ByteBuffer.allocate(players.size() * RECORD_SIZE);
+        for (NBAPlayerDTO player : players) {
+            records.putInt(strings.ref(player.getPlayerId()));
+            records.putInt(strings.ref(player.getFirstName()));
+            records.putInt(strings.ref(player.getLastName()));
+            records.putInt(strings.ref(player.getPosition()));
+            records.putInt(strings.ref(player.getTeam()));
+            records.putInt(strings.ref(player.getTeamId()));
+            records.putInt(strings.ref(player.getHeight()));
+            records.putInt(strings.ref(player.getWeight()));
+            records.putInt(strings.ref(player.getCollege()));
+            records.putDouble(player.getSalary() != null ? player.getSalary() : Double.NaN);
+            records.putInt(player.getJerseyNumber() != null ? player.getJerseyNumber() : NULL_JERSEY);
+        }
+        records.flip();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(players.size())
+                .putInt(strings.size())
+                .putInt(eTagRef)
+                .putInt(lastModifiedRef)
+                .putLong(System.currentTimeMillis())
+                .flip();
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer[] buffers = {header, records, strings.offsets(), strings.data()};
+                long remaining = 0;
+                for (ByteBuffer buffer : buffers) {
+                    remaining += buffer.remaining();
+                }
+                while (remaining > 0) {
+                    remaining -= channel.write(buffers);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Stamp an existing snapshot as saved now without rewriting it (its catalog was revalidated upstream)
+     * Only the header's savedAt is overwritten, in place
+     * @param path Snapshot file
+     * @throws IOException if the file is missing, unwritable, or not a valid snapshot
+     */
+    public static void touch(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer prefix = ByteBuffer.allocate(2 * Integer.BYTES);
+            while (prefix.hasRemaining()) {
+                if (channel.read(prefix, prefix.position()) < 0) {
+                    throw new IOException("Truncated player catalog snapshot: " + path);
+                }
+            }
+            prefix.flip();
+            if (prefix.getInt() != MAGIC || prefix.getInt() != VERSION || channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a current player catalog snapshot: " + path);
+            }
+
+            ByteBuffer savedAt = ByteBuffer.allocate(Long.BYTES).putLong(System.currentTimeMillis()).flip();
+            while (savedAt.hasRemaining()) {
+                channel.write(savedAt, SAVED_AT_OFFSET + savedAt.position());
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Memory-map and decode a snapshot
+     * @param path Snapshot file
+     * @return The snapshot, with an indexed catalog ready for lookups
+     * @throws IOException if the file is missing, unreadable, or not a valid snapshot
+     */
+    public static PlayerCatalogSnapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return decode(buffer);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                 | NegativeArraySizeException e) {
+            throw new IOException("Truncated or corrupt player catalog snapshot: " + path, e);
+        }
+    }
+
+    private static PlayerCatalogSnapshot decode(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a player catalog snapshot");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported player catalog snapshot version: " + version);
+        }
+        int playerCount = buffer.getInt();
+        int stringCount = buffer.getInt();
+        int eTagRef = buffer.getInt();
+        int lastModifiedRef = buffer.getInt();
+        long savedAt = buffer.getLong();
+        if (playerCount < 0 || stringCount < 0
+                || HEADER_SIZE + (long) playerCount * RECORD_SIZE + (stringCount + 1L) * Integer.BYTES > buffer.limit()) {
+            throw new IOException("Corrupt player catalog snapshot header");
+        }
+
+        int recordsStart = HEADER_SIZE;
+        int offsetsStart = recordsStart + playerCount * RECORD_SIZE;
+        int dataStart = offsetsStart + (stringCount + 1) * Integer.BYTES;
+
+        String[] strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            int start = buffer.getInt(offsetsStart + i * Integer.BYTES);
+            int end = buffer.getInt(offsetsStart + (i + 1) * Integer.BYTES);
+            byte[] bytes = new byte[end - start];
+            buffer.get(dataStart + start, bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        List<NBAPlayerDTO> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            int record = recordsStart + i * RECORD_SIZE;
+            NBAPlayerDTO player = new NBAPlayerDTO();
+            player.setPlayerId(field(strings, buffer, record, 0));
+            player.setFirstName(field(strings, buffer, record, 1));
+            player.setLastName(field(strings, buffer, record, 2));
+            player.setPosition(field(strings, buffer, record, 3));
+            player.setTeam(field(strings, buffer, record, 4));
+            player.setTeamId(field(strings, buffer, record, 5));
+            player.setHeight(field(strings, buffer, record, 6));
+            player.setWeight(field(strings, buffer, record, 7));
+            player.setCollege(field(strings, buffer, record, 8));
+
+            double salary = buffer.getDouble(record + STRING_FIELDS * Integer.BYTES);
+            int jersey = buffer.getInt(record + STRING_FIELDS * Integer.BYTES + Double.BYTES);
+            player.setSalary(Double.isNaN(salary) ? null : salary);
+            player.setJerseyNumber(jersey == NULL_JERSEY ? null : jersey);
+            players.add(player);
+        }
+
+        return new PlayerCatalogSnapshot(PlayerCatalog.of(players),
+                string(strings, eTagRef), string(strings, lastModifiedRef), savedAt);
+    }
+
+    private static String field(String[] strings, ByteBuffer buffer, int record, int index) throws IOException {
+        return string(strings, buffer.getInt(record + index * Integer.BYTES));
+    }
+
+    private static String string(String[] strings, int ref) throws IOException {
+        if (ref == NULL_REF) {
+            return null;
+        }
+        if (ref < 0 || ref >= strings.length) {
+            throw new IOException("Corrupt player catalog snapshot: string ref " + ref + " out of range");
+        }
+        return strings[ref];
+    }
+
+    /**
+     * Interning string table built while writing
+     */
+    private static final class StringTable {
+
+        private final Map<String, Integer> refs = new HashMap<>();
+        private final List<byte[]> values = new ArrayList<>();
+        private int dataLength;
+
+        int ref(String value) {
+            if (value == null) {
+                return NULL_REF;
+            }
+            return refs.computeIfAbsent(value, key -> {
+                byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+                values.add(bytes);
+                dataLength += bytes.length;
+                return values.size() - 1;
+            });
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        ByteBuffer offsets() {
+            ByteBuffer offsets = ByteBuffer.allocate((values.size() + 1) * Integer.BYTES);
+            int offset = 0;
+            offsets.putInt(offset);
+            for (byte[] value : values) {
+                offset += value.length;
+                offsets.putInt(offset);
+            }
+            return offsets.flip();
+        }
+
+        ByteBuffer data() {
+            ByteBuffer data = ByteBuffer.allocate(dataLength);
+            for (byte[] value : values) {
+                data.put(value);
+            }
+            return data.flip();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.courtvision.catalog;
+
+import com.courtvision.dto.NBAPlayerDTO;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A catalog player ranked against a name query
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class PlayerMatch {
+
+    private final NBAPlayerDTO player;
+
+    /**
+     * Trigram similarity between the query and the player's full name, from 0 (nothing shared) to 1 (identical)
+     */
+    private final double similarity;
+}
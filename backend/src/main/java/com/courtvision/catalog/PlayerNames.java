@@ -0,0 +1,90 @@
+package com.courtvision.catalog;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Name normalization shared by the player catalog indexes and their lookups
+ * Lower-cases, strips accents and punctuation, and collapses separators to single spaces
+ * so "Nikola Jokić", "nikola  jokic" and "Nikola-Jokic" all normalize to "nikola jokic"
+ */
+public final class PlayerNames {
+
+    private PlayerNames() {
+    }
+
+    /**
+     * Normalize a name or search term
+     * @param value The raw value (may be null)
+     * @return Normalized value, or an empty string if nothing searchable remains
+     */
+    public static String normalize(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+
+        String source = isAscii(value) ? value : Normalizer.normalize(value, Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(source.length());
+        boolean pendingSeparator = false;
+
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSeparator && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                pendingSeparator = false;
+                normalized.append(Character.toLowerCase(c));
+            } else if (Character.isWhitespace(c) || c == '-' || c == '_') {
+                pendingSeparator = true;
+            }
+            // Everything else (apostrophes, periods, combining accent marks) is dropped
+        }
+
+        return normalized.toString();
+    }
+
+    /**
+     * Normalize a player's full name from its first and last name parts
+     * @return Normalized "first last", or null if either part is missing
+     */
+    public static String normalizeFullName(String firstName, String lastName) {
+        if (firstName == null || lastName == null) {
+            return null;
+        }
+        return normalize(firstName + " " + lastName);
+    }
+
+    /**
+     * Distinct trigrams of a normalized name
+     * Each word is padded with two leading spaces and one trailing space, so word starts weigh
+     * more than word interiors and short names still produce trigrams
+     * @param normalized A value already passed through {@link #normalize(String)}
+     * @return Trigrams in first-seen order, without duplicates
+     */
+    public static List<String> trigrams(String normalized) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (String word : normalized.split(" ")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return new ArrayList<>(trigrams);
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
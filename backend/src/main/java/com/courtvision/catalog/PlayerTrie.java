@@ -0,0 +1,200 @@
+package com.courtvision.catalog;
+
+import com.courtvision.dto.NBAPlayerDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Prefix trie over normalized player names for autocomplete
+ *
+ * Every player is reachable from the start of their full name and from the start of each later
+ * name token, so "leb", "lebron j" and "jam" all lead to LeBron James. Each node stores its top
+ * {@link #MAX_SUGGESTIONS} players, ranked once at build time, so a lookup is a walk of at most
+ * prefix-length nodes with no sorting or scanning. Nodes also memoize the encoded response for
+ * each requested size, so hot prefixes are answered with a pre-built body.
+ */
+public final class PlayerTrie {
+
+    /**
+     * Most suggestions stored per node (and the largest size a lookup can ask for)
+     */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    // Match tiers: the prefix starts the full name, or only a later name token
+    private static final int TIER_FULL_NAME = 0;
+    private static final int TIER_TOKEN = 1;
+
+    private final NBAPlayerDTO[] players;
+    private final Node root;
+
+    // Stand-in for prefixes with no matching node, so empty responses are memoized too
+    private final Node noMatch = new Node(new char[0], new Node[0], new int[0]);
+
+    PlayerTrie(NBAPlayerDTO[] players, String[] searchNames) {
+        this.players = players;
+
+        BuildNode buildRoot = new BuildNode();
+        for (int ordinal = 0; ordinal < searchNames.length; ordinal++) {
+            String name = searchNames[ordinal];
+            if (name == null || name.isEmpty()) {
+                continue;
+            }
+            insert(buildRoot, name, ordinal, TIER_FULL_NAME);
+            for (int i = name.indexOf(' '); i >= 0; i = name.indexOf(' ', i + 1)) {
+                insert(buildRoot, name.substring(i + 1), ordinal, TIER_TOKEN);
+            }
+        }
+
+        Comparator<long[]> ranking = Comparator
+                .<long[]>comparingLong(candidate -> candidate[1])
+                .thenComparing(candidate -> salaryOf((int) candidate[0]), Comparator.reverseOrder())
+                .thenComparingLong(candidate -> candidate[0]);
+        this.root = buildRoot.freeze(ranking);
+    }
+
+    /**
+     * Top players for a prefix
+     * Ranked by match tier (full name before later token), then salary (highest first), then catalog order
+     * @param prefix Raw prefix as typed
+     * @param limit Maximum suggestions (capped at MAX_SUGGESTIONS)
+     * @return Matching players, best first
+     */
+    public List<NBAPlayerDTO> suggest(String prefix, int limit) {
+        Node node = find(prefix);
+        return node == null ? Collections.emptyList() : suggest(node, clamp(limit));
+    }
+
+    /**
+     * Encoded top players for a prefix, memoized on the trie node
+     * The encoder must be deterministic for a given suggestion list; it runs at most once per
+     * node and size (concurrent first requests may both encode, with identical results)
+     * @param prefix Raw prefix as typed
+     * @param limit Maximum suggestions (capped at MAX_SUGGESTIONS)
+     * @param encoder Turns a suggestion list into a response body
+     * @return The encoded body
+     */
+    public byte[] suggestEncoded(String prefix, int limit, Function<List<NBAPlayerDTO>, byte[]> encoder) {
+        Node node = find(prefix);
+        if (node == null) {
+            node = noMatch;
+        }
+        int size = clamp(limit);
+
+        byte[] body = node.bodies.get(size);
+        if (body == null) {
+            body = encoder.apply(suggest(node, size));
+            node.bodies.set(size, body);
+        }
+        return body;
+    }
+
+    private List<NBAPlayerDTO> suggest(Node node, int limit) {
+        int size = Math.min(limit, node.top.length);
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        List<NBAPlayerDTO> suggestions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            suggestions.add(players[node.top[i]]);
+        }
+        return suggestions;
+    }
+
+    private Node find(String prefix) {
+        String key = PlayerNames.normalize(prefix);
+        if (key.isEmpty()) {
+            return null;
+        }
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node;
+    }
+
+    private Double salaryOf(int ordinal) {
+        Double salary = players[ordinal].getSalary();
+        return salary != null ? salary : Double.NEGATIVE_INFINITY;
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(0, Math.min(limit, MAX_SUGGESTIONS));
+    }
+
+    private static void insert(BuildNode root, String key, int ordinal, int tier) {
+        BuildNode node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+            node.candidates.add(new long[]{ordinal, tier});
+        }
+    }
+
+    /**
+     * Mutable node used only while building
+     */
+    private static final class BuildNode {
+
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private final List<long[]> candidates = new ArrayList<>();
+
+        Node freeze(Comparator<long[]> ranking) {
+            candidates.sort(ranking);
+            int[] top = new int[Math.min(candidates.size(), MAX_SUGGESTIONS)];
+            int count = 0;
+            for (long[] candidate : candidates) {
+                if (count == top.length) {
+                    break;
+                }
+                int ordinal = (int) candidate[0];
+                // A player reached through two tokens keeps only its best-ranked entry
+                boolean seen = false;
+                for (int i = 0; i < count && !seen; i++) {
+                    seen = top[i] == ordinal;
+                }
+                if (!seen) {
+                    top[count++] = ordinal;
+                }
+            }
+
+            char[] keys = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int index = 0;
+            for (var child : children.entrySet()) {
+                keys[index] = child.getKey();
+                nodes[index++] = child.getValue().freeze(ranking);
+            }
+            return new Node(keys, nodes, count == top.length ? top : Arrays.copyOf(top, count));
+        }
+    }
+
+    /**
+     * Trie node; structure is fixed at build time, children are in sorted key order
+     */
+    private static final class Node {
+
+        private final char[] keys;
+        private final Node[] children;
+        private final int[] top;
+
+        // Memoized encoded responses by size; index 0..MAX_SUGGESTIONS
+        private final AtomicReferenceArray<byte[]> bodies = new AtomicReferenceArray<>(MAX_SUGGESTIONS + 1);
+
+        private Node(char[] keys, Node[] children, int[] top) {
+            this.keys = keys;
+            this.children = children;
+            this.top = top;
+        }
+
+        Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+}
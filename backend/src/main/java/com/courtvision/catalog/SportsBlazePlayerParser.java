@@ -0,0 +1,127 @@
+package com.courtvision.catalog;
+
+import com.courtvision.dto.NBAPlayerDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming parser for the SportsBlaze player splits payload
+ *
+ * Reads the response token by token straight into catalog players, so neither the raw
+ * body nor a full response DTO graph is ever held in memory. Fields the catalog does not
+ * use (per-player stat splits, metadata) are skipped without being materialized, and
+ * repeated values such as team and position share a single String instance.
+ *
+ * Expected shape: {"success": true, "message": "...", "data": [{"player_id": ..., ...}, ...]}
+ */
+public class SportsBlazePlayerParser {
+
+    private final JsonFactory jsonFactory;
+
+    public SportsBlazePlayerParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * Parse a splits response body
+     * @param body The response stream (closed once parsing completes)
+     * @return Parsed result; players are only meaningful when the response reports success
+     * @throws IOException if the body is not valid JSON
+     */
+    public Result parse(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected JSON object at start of SportsBlaze response");
+            }
+
+            Boolean success = null;
+            String message = null;
+            List<NBAPlayerDTO> players = new ArrayList<>();
+            Map<String, String> sharedValues = new HashMap<>();
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "success" -> success = value == JsonToken.VALUE_NULL ? null : parser.getValueAsBoolean();
+                    case "message" -> message = parser.getValueAsString();
+                    case "data" -> readPlayers(parser, players, sharedValues);
+                    default -> parser.skipChildren();
+                }
+            }
+
+            return new Result(Boolean.TRUE.equals(success), message, players);
+        }
+    }
+
+    private void readPlayers(JsonParser parser, List<NBAPlayerDTO> players,
+                             Map<String, String> sharedValues) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                players.add(readPlayer(parser, sharedValues));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private NBAPlayerDTO readPlayer(JsonParser parser, Map<String, String> sharedValues) throws IOException {
+        NBAPlayerDTO player = new NBAPlayerDTO();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "player_id" -> player.setPlayerId(parser.getValueAsString());
+                case "first_name" -> player.setFirstName(parser.getValueAsString());
+                case "last_name" -> player.setLastName(parser.getValueAsString());
+                case "position" -> player.setPosition(shared(parser.getValueAsString(), sharedValues));
+                case "team" -> player.setTeam(shared(parser.getValueAsString(), sharedValues));
+                case "team_id" -> player.setTeamId(shared(parser.getValueAsString(), sharedValues));
+                case "height" -> player.setHeight(shared(parser.getValueAsString(), sharedValues));
+                case "weight" -> player.setWeight(shared(parser.getValueAsString(), sharedValues));
+                case "college" -> player.setCollege(shared(parser.getValueAsString(), sharedValues));
+                case "salary" -> player.setSalary(parser.getValueAsDouble());
+                case "jersey_number" -> player.setJerseyNumber(parser.getValueAsInt());
+                default -> parser.skipChildren();
+            }
+        }
+        return player;
+    }
+
+    private static String shared(String value, Map<String, String> sharedValues) {
+        if (value == null) {
+            return null;
+        }
+        String existing = sharedValues.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    /**
+     * Outcome of parsing one splits response
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    public static class Result {
+        private final boolean success;
+        private final String message;
+        private final List<NBAPlayerDTO> players;
+    }
+}
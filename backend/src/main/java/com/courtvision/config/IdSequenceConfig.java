@@ -0,0 +1,50 @@
+package com.courtvision.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+/**
+ * Keeps the pooled id sequences ahead of ids already in their tables
+ *
+ * score_calculations and league_scoreboard_current moved from IDENTITY ids to pooled sequences so their
+ * inserts can be batched. Hibernate creates the sequences starting at 1, so on a database that already
+ * holds rows each sequence is advanced past the table's highest id before anything is inserted. Runs
+ * once the EntityManagerFactory (and with it the schema update) is ready and before the web server starts.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class IdSequenceConfig {
+
+    // Table -> sequence its entity draws ids from
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "score_calculations", "score_calculations_seq",
+            "league_scoreboard_current", "league_scoreboard_current_seq");
+
+    // Depended on so the schema (including the sequences) exists before the alignment runs
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void alignSequences() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            return;
+        }
+        SEQUENCES.forEach((table, sequence) -> {
+            // Never moves a sequence backwards, so nodes starting together are harmless
+            Long value = jdbcTemplate.queryForObject("SELECT setval('" + sequence + "', GREATEST("
+                    + "(SELECT COALESCE(MAX(id), 0) FROM " + table + "), (SELECT last_value FROM " + sequence + ")))",
+                    Long.class);
+            log.debug("Sequence {} aligned to {}", sequence, value);
+        });
+    }
+}
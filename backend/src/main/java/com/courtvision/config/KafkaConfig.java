@@ -1,6 +1,7 @@
 package com.courtvision.config;
 
-import com.courtvision.dto.ScoreUpdateEvent;
+import com.courtvision.dto.LeagueScoreboardSnapshotEvent;
+import com.courtvision.kafka.ScoreCalculationRequestEvent;
 import com.courtvision.kafka.WinnerAnnouncementEvent;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.NewTopic;
@@ -17,8 +18,11 @@ import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -31,7 +35,7 @@ import java.util.Map;
 @EnableKafka
 public class KafkaConfig {
 
-    public static final String LEAGUE_SCORES_TOPIC = "league-scores-updated";
+    public static final String LEAGUE_SCOREBOARD_TOPIC = "league-scoreboard-snapshots";
     public static final String SCORE_CALCULATION_TOPIC = "score-calculation-requests";
     public static final String LEAGUE_WINNERS_TOPIC = "league-winners-announced";
 
@@ -41,6 +45,14 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id:courtvision-group}")
     private String groupId;
 
+    // Partitions of the scoring work topic; bounds how many consumers across the cluster share a run
+    @Value("${kafka.score-calculation.partitions:12}")
+    private int scoreCalculationPartitions;
+
+    // Scoring consumers per node
+    @Value("${kafka.score-calculation.concurrency:3}")
+    private int scoreCalculationConcurrency;
+
     /**
      * Kafka Admin bean for topic management
      */
@@ -52,11 +64,12 @@ public class KafkaConfig {
     }
 
     /**
-     * Create league-scores-updated topic
+     * Create league-scoreboard-snapshots topic
+     * One record per league scoring, keyed by league ID so a league's snapshots stay in order
      */
     @Bean
-    public NewTopic leagueScoresTopic() {
-        return TopicBuilder.name(LEAGUE_SCORES_TOPIC)
+    public NewTopic leagueScoreboardTopic() {
+        return TopicBuilder.name(LEAGUE_SCOREBOARD_TOPIC)
                 .partitions(3)
                 .replicas(1)
                 .build();
@@ -64,11 +77,12 @@ public class KafkaConfig {
 
     /**
      * Create score-calculation-requests topic
+     * One record per league to score, keyed by league ID
      */
     @Bean
     public NewTopic scoreCalculationTopic() {
         return TopicBuilder.name(SCORE_CALCULATION_TOPIC)
-                .partitions(1)
+                .partitions(scoreCalculationPartitions)
                 .replicas(1)
                 .build();
     }
@@ -85,58 +99,126 @@ public class KafkaConfig {
     }
 
     /**
-     * Producer factory for ScoreUpdateEvent messages
+     * Producer factory for LeagueScoreboardSnapshotEvent messages
+     * Idempotent, so retries can neither duplicate nor reorder a league's snapshots while several
+     * batches are in flight; sends linger briefly so a run's snapshots go out in compressed batches
      */
     @Bean
-    public ProducerFactory<String, ScoreUpdateEvent> scoreUpdateProducerFactory() {
+    public ProducerFactory<String, LeagueScoreboardSnapshotEvent> leagueScoreboardProducerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
-        configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
-        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 1);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 20);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, 65536);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        // Snapshots are sent after the scoring transaction commits; never stall a caller long on an unreachable broker
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, 5000);
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
     /**
-     * Kafka template for sending ScoreUpdateEvent messages
+     * Kafka template for sending LeagueScoreboardSnapshotEvent messages
      */
     @Bean
-    public KafkaTemplate<String, ScoreUpdateEvent> scoreUpdateKafkaTemplate() {
-        return new KafkaTemplate<>(scoreUpdateProducerFactory());
+    public KafkaTemplate<String, LeagueScoreboardSnapshotEvent> leagueScoreboardKafkaTemplate() {
+        return new KafkaTemplate<>(leagueScoreboardProducerFactory());
     }
 
     /**
-     * Consumer factory for ScoreUpdateEvent messages
+     * Consumer factory for LeagueScoreboardSnapshotEvent messages
      */
     @Bean
-    public ConsumerFactory<String, ScoreUpdateEvent> scoreUpdateConsumerFactory() {
+    public ConsumerFactory<String, LeagueScoreboardSnapshotEvent> leagueScoreboardConsumerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, ScoreUpdateEvent.class.getName());
+        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, LeagueScoreboardSnapshotEvent.class.getName());
         configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        // Each node starts a fresh group; the leaderboards are loaded from the database, so only new snapshots matter
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
         configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
         return new DefaultKafkaConsumerFactory<>(configProps);
     }
 
     /**
-     * Listener container factory for ScoreUpdateEvent consumers
+     * Listener container factory for LeagueScoreboardSnapshotEvent consumers
      */
     @Bean
-    public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, ScoreUpdateEvent>>
-    scoreUpdateKafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, ScoreUpdateEvent> factory =
+    public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, LeagueScoreboardSnapshotEvent>>
+    leagueScoreboardKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, LeagueScoreboardSnapshotEvent> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(scoreUpdateConsumerFactory());
+        factory.setConsumerFactory(leagueScoreboardConsumerFactory());
         factory.setConcurrency(3);
         return factory;
     }
 
+    /**
+     * Producer factory for ScoreCalculationRequestEvent messages
+     */
+    @Bean
+    public ProducerFactory<String, ScoreCalculationRequestEvent> scoreCalculationProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    /**
+     * Kafka template for sending ScoreCalculationRequestEvent messages
+     */
+    @Bean
+    public KafkaTemplate<String, ScoreCalculationRequestEvent> scoreCalculationKafkaTemplate() {
+        return new KafkaTemplate<>(scoreCalculationProducerFactory());
+    }
+
+    /**
+     * Consumer factory for ScoreCalculationRequestEvent messages
+     * Every node joins the same group, so a run's leagues are spread across the cluster
+     */
+    @Bean
+    public ConsumerFactory<String, ScoreCalculationRequestEvent> scoreCalculationConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, "courtvision-scoring-workers");
+        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, ScoreCalculationRequestEvent.class.getName());
+        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        // A league takes far longer to score than a record takes to fetch
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 50);
+        return new DefaultKafkaConsumerFactory<>(configProps);
+    }
+
+    /**
+     * Listener container factory for ScoreCalculationRequestEvent consumers
+     * Offsets are committed per record once the league is scored; a failing league is retried
+     * twice, then logged and skipped
+     */
+    @Bean
+    public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, ScoreCalculationRequestEvent>>
+    scoreCalculationKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, ScoreCalculationRequestEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(scoreCalculationConsumerFactory());
+        factory.setConcurrency(scoreCalculationConcurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.RECORD);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(1000L, 2)));
+        return factory;
+    }
+
     /**
      * Producer factory for String messages
      */
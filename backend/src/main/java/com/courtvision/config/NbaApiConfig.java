@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.LocalDate;
+
 /**
  * Configuration properties for NBA/SportsBlaze API integration
  */
@@ -14,7 +16,125 @@ public class NbaApiConfig {
 
     private String baseUrl;
     private String key;
-    private long cacheTtl;
     private int timeout;
 
+    /**
+     * Bundled player list loaded at startup and merged under the API data (empty = disabled)
+     */
+    private String localCatalog = "classpath:catalog/nba_players.csv";
+
+    private Cache cache = new Cache();
+    private Http http = new Http();
+    private Match match = new Match();
+    private Stats stats = new Stats();
+
+    /**
+     * Player catalog cache settings (nba.api.cache.*)
+     */
+    @Data
+    public static class Cache {
+
+        /**
+         * Age in milliseconds after which the catalog is refreshed in the background
+         */
+        private long ttl = 3600000;
+
+        /**
+         * Minimum delay in milliseconds between refresh attempts after a failed fetch
+         */
+        private long failureBackoff = 30000;
+
+        /**
+         * Maximum time in milliseconds a request waits on the shared first load before
+         * answering with an empty catalog (0 = never wait)
+         */
+        private long coldWait = 2000;
+
+        /**
+         * File the catalog is persisted to after each successful fetch and restored from on
+         * startup (empty = disabled)
+         */
+        private String snapshotPath = "";
+    }
+
+    /**
+     * Pooled HTTP client settings (nba.api.http.*)
+     */
+    @Data
+    public static class Http {
+
+        /**
+         * Maximum open connections across all routes
+         */
+        private int maxConnections = 20;
+
+        /**
+         * Maximum open connections to a single host
+         */
+        private int maxConnectionsPerRoute = 10;
+
+        /**
+         * Longest time in milliseconds an idle connection is kept alive for reuse
+         */
+        private long keepAlive = 60000;
+
+        /**
+         * Maximum lifetime in milliseconds of a pooled connection, idle or not
+         */
+        private long connectionTtl = 300000;
+
+        /**
+         * Idle time in milliseconds after which a pooled connection is checked before reuse
+         */
+        private long validateAfterInactivity = 2000;
+    }
+
+    /**
+     * Fuzzy player name matching settings (nba.api.match.*)
+     */
+    @Data
+    public static class Match {
+
+        /**
+         * Trigram similarity (0-1) a name must reach to resolve to a player
+         */
+        private double minSimilarity = 0.5;
+
+        /**
+         * Lead in similarity the best match needs over the runner-up to count as unambiguous
+         */
+        private double minMargin = 0.1;
+
+        /**
+         * Similarity floor for "did you mean" suggestions
+         */
+        private double suggestionSimilarity = 0.3;
+    }
+
+    /**
+     * Box score ingestion settings (nba.api.stats.*)
+     */
+    @Data
+    public static class Stats {
+
+        /**
+         * First game-day of the season tracked by the stat store
+         */
+        private LocalDate seasonStart = LocalDate.of(2025, 10, 21);
+
+        /**
+         * Number of game-days tracked from the season start (regular season plus playoffs)
+         */
+        private int seasonDays = 250;
+
+        /**
+         * Daily box scores path under the base URL; {date} is replaced with an ISO date
+         */
+        private String boxScorePath = "/boxscores/daily/{date}.json";
+
+        /**
+         * Re-ingest the season to date in the background on startup
+         */
+        private boolean backfillOnStartup = true;
+    }
 }
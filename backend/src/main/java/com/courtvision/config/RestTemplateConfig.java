@@ -1,29 +1,69 @@
 package com.courtvision.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
-
 /**
  * Configuration for RestTemplate bean
+ * Backed by a pooled Apache HttpClient so connections (and their TLS sessions) are reused
+ * across catalog refreshes. HttpClient advertises gzip/deflate and decompresses responses
+ * transparently, so the splits payload travels compressed.
  */
 @Configuration
 public class RestTemplateConfig {
 
+    /**
+     * Shared pooled HTTP client for outbound API calls (closed with the context)
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient nbaApiHttpClient(NbaApiConfig nbaApiConfig) {
+        Timeout timeout = Timeout.ofMilliseconds(nbaApiConfig.getTimeout());
+        NbaApiConfig.Http http = nbaApiConfig.getHttp();
+        TimeValue keepAlive = TimeValue.ofMilliseconds(http.getKeepAlive());
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.getMaxConnections())
+                .setMaxConnPerRoute(http.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(timeout)
+                        .setSocketTimeout(timeout)
+                        .setTimeToLive(TimeValue.ofMilliseconds(http.getConnectionTtl()))
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(http.getValidateAfterInactivity()))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(timeout)
+                        .setResponseTimeout(timeout)
+                        .build())
+                // Honour the server's Keep-Alive hint, but never hold an idle connection longer than configured
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue advertised = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return TimeValue.isPositive(advertised) && advertised.compareTo(keepAlive) < 0 ? advertised : keepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAlive)
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder, NbaApiConfig nbaApiConfig) {
-        Duration timeout = Duration.ofMillis(nbaApiConfig.getTimeout());
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient nbaApiHttpClient) {
         return builder
-                .requestFactory(() -> {
-                    org.springframework.http.client.SimpleClientHttpRequestFactory factory =
-                        new org.springframework.http.client.SimpleClientHttpRequestFactory();
-                    factory.setConnectTimeout((int) timeout.toMillis());
-                    factory.setReadTimeout((int) timeout.toMillis());
-                    return factory;
-                })
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(nbaApiHttpClient))
                 .build();
     }
 }
@@ -0,0 +1,38 @@
+package com.courtvision.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for score history storage (score-history.*)
+ * Partitioning, rollups and retention only apply on PostgreSQL
+ */
+@Configuration
+@ConfigurationProperties(prefix = "score-history")
+@Data
+public class ScoreHistoryConfig {
+
+    /**
+     * Manage score_calculations as monthly range partitions on calculated_at
+     * An existing plain table is only converted when convertExistingTable is also set
+     */
+    private boolean partitioned = false;
+
+    /**
+     * Convert a plain score_calculations table to partitions on startup (a one-off migration:
+     * set it for one start of one node, since the conversion locks and rebuilds the table)
+     */
+    private boolean convertExistingTable = false;
+
+    /**
+     * Monthly partitions kept created ahead of the current month
+     */
+    private int partitionsAhead = 3;
+
+    /**
+     * Days raw score rows are kept before their partition is dropped (weekly rollups are kept)
+     * Whole partitions are dropped, so raw rows live up to a month longer than this
+     */
+    private int rawRetentionDays = 180;
+}
@@ -2,7 +2,6 @@ package com.courtvision.controller;
 
 import com.courtvision.dto.LeaderboardMessage;
 import com.courtvision.dto.ScoreCalculationDTO;
-import com.courtvision.entity.ScoreCalculation;
 import com.courtvision.service.ScoreService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,10 +34,7 @@ public class LeaderboardController {
         log.info("Client subscribed to leaderboard for league: {}", leagueId);
 
         // Get current scores for the league
-        List<ScoreCalculation> scores = scoreService.getLeagueScoreboard(leagueId);
-        List<ScoreCalculationDTO> scoreDTOs = scores.stream()
-                .map(ScoreCalculationDTO::fromEntity)
-                .toList();
+        List<ScoreCalculationDTO> scoreDTOs = scoreService.getLeagueScoreboard(leagueId);
 
         // Send initial leaderboard data
         LeaderboardMessage message = LeaderboardMessage.builder()
@@ -68,4 +64,22 @@ public class LeaderboardController {
 
         messagingTemplate.convertAndSend("/topic/leaderboard/" + leagueId, message);
     }
+
+    /**
+     * Broadcast a league's full standings with live (intraday, not yet persisted) totals overlaid
+     * Called by LiveScoringService while games are in progress, for leagues where a total moved
+     */
+    public void broadcastLiveScores(Long leagueId, String leagueName, List<ScoreCalculationDTO> scores) {
+        log.debug("Broadcasting {} live scores to leaderboard: {} ({})", scores.size(), leagueId, leagueName);
+
+        LeaderboardMessage message = LeaderboardMessage.builder()
+                .leagueId(leagueId)
+                .leagueName(leagueName)
+                .scores(scores)
+                .timestamp(LocalDateTime.now())
+                .messageType("LIVE_SCORES_UPDATED")
+                .build();
+
+        messagingTemplate.convertAndSend("/topic/leaderboard/" + leagueId, message);
+    }
 }
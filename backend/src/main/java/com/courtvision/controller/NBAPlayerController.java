@@ -1,9 +1,16 @@
 package com.courtvision.controller;
 
 import com.courtvision.dto.ApiResponse;
+import com.courtvision.dto.BulkPlayerLookupRequest;
+import com.courtvision.dto.BulkPlayerLookupResponse;
 import com.courtvision.dto.NBAPlayerDTO;
 import com.courtvision.service.NBAPlayerService;
+import com.courtvision.service.PlayerListingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,21 +24,60 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NBAPlayerController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final NBAPlayerService nbaPlayerService;
+    private final PlayerListingService playerListingService;
 
     /**
-     * Get all available NBA players
+     * Get NBA players, optionally paginated and projected
+     * Pages are pre-encoded per catalog version with a strong ETag; conditional requests get a 304
+     * and gzip-capable clients get the pre-compressed body. The next page's cursor, if any, is in
+     * the X-Next-Cursor header.
+     * @param cursor Cursor from a previous page (optional)
+     * @param limit Page size (optional, all remaining players when absent)
+     * @param fields Comma-separated fields to include, e.g. "id,name,team" (optional)
      */
     @GetMapping("/players")
-    public ResponseEntity<ApiResponse> getAllPlayers() {
-        List<NBAPlayerDTO> players = nbaPlayerService.getAllPlayers();
-        return ResponseEntity.ok(
-                ApiResponse.builder()
-                        .success(true)
-                        .message("Retrieved " + players.size() + " players")
-                        .data(players)
-                        .build()
-        );
+    public ResponseEntity<?> getAllPlayers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        PlayerListingService.EncodedPage page;
+        try {
+            page = playerListingService.getPage(cursor, limit, fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    ApiResponse.builder()
+                            .success(false)
+                            .message(e.getMessage())
+                            .build()
+            );
+        }
+
+        boolean gzip = page.getGzippedBody() != null && acceptsGzip(acceptEncoding);
+        String eTag = "\"" + page.getETag() + (gzip ? "-gzip" : "") + "\"";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(eTag);
+        headers.setCacheControl(CacheControl.noCache());
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        if (page.getNextCursor() != null) {
+            headers.set(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+
+        if (matchesETag(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return ResponseEntity.ok().headers(headers).body(page.getGzippedBody());
+        }
+        return ResponseEntity.ok().headers(headers).body(page.getBody());
     }
 
     /**
@@ -50,6 +96,20 @@ public class NBAPlayerController {
         );
     }
 
+    /**
+     * Autocomplete player names while typing (e.g. in a draft room)
+     * Returns the top suggestions (id, name, team, position) for the prefix; bodies are
+     * pre-encoded per prefix, so this is a trie walk plus a byte copy
+     */
+    @GetMapping(value = "/players/autocomplete", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> autocompletePlayers(
+            @RequestParam("q") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(nbaPlayerService.autocompletePlayers(prefix, limit));
+    }
+
     /**
      * Search players by team
      */
@@ -107,6 +167,31 @@ public class NBAPlayerController {
         }
     }
 
+    /**
+     * Look up many players in one request (roster pages, draft board)
+     * Accepts up to NBAPlayerService.MAX_BULK_LOOKUP IDs and names combined
+     */
+    @PostMapping("/players/bulk")
+    public ResponseEntity<ApiResponse> lookupPlayers(@RequestBody BulkPlayerLookupRequest request) {
+        try {
+            BulkPlayerLookupResponse result = nbaPlayerService.lookupPlayers(request.getIds(), request.getNames());
+            return ResponseEntity.ok(
+                    ApiResponse.builder()
+                            .success(true)
+                            .message("Found " + result.getPlayers().size() + " players")
+                            .data(result)
+                            .build()
+            );
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    ApiResponse.builder()
+                            .success(false)
+                            .message(e.getMessage())
+                            .build()
+            );
+        }
+    }
+
     /**
      * Get all unique positions
      */
@@ -136,4 +221,33 @@ public class NBAPlayerController {
                         .build()
         );
     }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").equalsIgnoreCase("q=0");
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -2,7 +2,6 @@ package com.courtvision.controller;
 
 import com.courtvision.dto.ApiResponse;
 import com.courtvision.dto.ScoreCalculationDTO;
-import com.courtvision.entity.ScoreCalculation;
 import com.courtvision.entity.User;
 import com.courtvision.service.ScoreService;
 import lombok.RequiredArgsConstructor;
@@ -25,17 +24,19 @@ public class ScoreController {
     private final ScoreService scoreService;
 
     /**
-     * Get league scoreboard (all scores for a league)
+     * Get league scoreboard (all scores for a league, or the top scores when a limit is given)
      * @param leagueId The league ID
+     * @param limit Maximum scores returned (optional)
      * @return List of scores ordered by ranking
      */
     @GetMapping("/leagues/{leagueId}/scoreboard")
-    public ResponseEntity<ApiResponse> getLeagueScoreboard(@PathVariable Long leagueId) {
-        List<ScoreCalculation> scores = scoreService.getLeagueScoreboard(leagueId);
+    public ResponseEntity<ApiResponse> getLeagueScoreboard(
+            @PathVariable Long leagueId,
+            @RequestParam(required = false) Integer limit) {
 
-        List<ScoreCalculationDTO> dtos = scores.stream()
-                .map(ScoreCalculationDTO::fromEntity)
-                .toList();
+        List<ScoreCalculationDTO> dtos = limit != null
+                ? scoreService.getLeagueScoreboard(leagueId, limit)
+                : scoreService.getLeagueScoreboard(leagueId);
 
         return ResponseEntity.ok(
                 ApiResponse.builder()
@@ -50,21 +51,21 @@ public class ScoreController {
      * Get user's score in a league
      * @param leagueId The league ID
      * @param userId The user ID
-     * @return User's latest score
+     * @return User's latest score, with its rank in the league
      */
     @GetMapping("/leagues/{leagueId}/users/{userId}")
     public ResponseEntity<ApiResponse> getUserScore(
             @PathVariable Long leagueId,
             @PathVariable Long userId) {
 
-        Optional<ScoreCalculation> score = scoreService.getUserScore(leagueId, userId);
+        Optional<ScoreCalculationDTO> score = scoreService.getUserScore(leagueId, userId);
 
         if (score.isPresent()) {
             return ResponseEntity.ok(
                     ApiResponse.builder()
                             .success(true)
                             .message("Retrieved user score")
-                            .data(ScoreCalculationDTO.fromEntity(score.get()))
+                            .data(score.get())
                             .build()
             );
         } else {
@@ -82,7 +83,7 @@ public class ScoreController {
      * Get current user's score in a league
      * @param leagueId The league ID
      * @param authentication Spring Security authentication
-     * @return User's latest score
+     * @return User's latest score, with its rank in the league
      */
     @GetMapping("/leagues/{leagueId}/me")
     public ResponseEntity<ApiResponse> getMyScore(
@@ -90,14 +91,14 @@ public class ScoreController {
             Authentication authentication) {
 
         User user = (User) authentication.getPrincipal();
-        Optional<ScoreCalculation> score = scoreService.getUserScore(leagueId, user.getId());
+        Optional<ScoreCalculationDTO> score = scoreService.getUserScore(leagueId, user.getId());
 
         if (score.isPresent()) {
             return ResponseEntity.ok(
                     ApiResponse.builder()
                             .success(true)
                             .message("Retrieved your score")
-                            .data(ScoreCalculationDTO.fromEntity(score.get()))
+                            .data(score.get())
                             .build()
             );
         } else {
@@ -130,10 +131,7 @@ public class ScoreController {
         try {
             scoreService.calculateLeagueScores(leagueId);
 
-            List<ScoreCalculation> scores = scoreService.getLeagueScoreboard(leagueId);
-            List<ScoreCalculationDTO> dtos = scores.stream()
-                    .map(ScoreCalculationDTO::fromEntity)
-                    .toList();
+            List<ScoreCalculationDTO> dtos = scoreService.getLeagueScoreboard(leagueId);
 
             return ResponseEntity.ok(
                     ApiResponse.builder()
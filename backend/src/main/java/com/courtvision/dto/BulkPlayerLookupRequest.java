@@ -0,0 +1,28 @@
+package com.courtvision.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request to resolve many players at once (roster pages, draft board)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkPlayerLookupRequest {
+
+    /**
+     * NBA player IDs to look up (optional)
+     */
+    private List<String> ids;
+
+    /**
+     * Player names to resolve (optional); each must identify a single player
+     */
+    private List<String> names;
+}
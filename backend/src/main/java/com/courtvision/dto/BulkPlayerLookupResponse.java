@@ -0,0 +1,30 @@
+package com.courtvision.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a bulk player lookup
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkPlayerLookupResponse {
+
+    /**
+     * Resolved players in request order (IDs first, then names), without duplicates
+     */
+    private List<NBAPlayerDTO> players;
+
+    /**
+     * Requested IDs and names that did not resolve to a player
+     */
+    @JsonProperty("not_found")
+    private List<String> notFound;
+}
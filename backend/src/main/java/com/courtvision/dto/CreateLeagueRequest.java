@@ -1,5 +1,6 @@
 package com.courtvision.dto;
 
+import com.courtvision.entity.ScoringProfile;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,6 +12,7 @@ public class CreateLeagueRequest {
     private String name;
     private String description;
     private Integer maxPlayers;  // 2-8, default 8
+    private ScoringProfile scoring;  // fantasy points per stat, unset categories use the defaults
 
     public void setDefaults() {
         if (maxPlayers == null) {
@@ -1,6 +1,7 @@
 package com.courtvision.dto;
 
 import com.courtvision.entity.League;
+import com.courtvision.entity.ScoringProfile;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,6 +21,7 @@ public class LeagueResponse {
     private Long creatorId;
     private Integer maxPlayers;
     private Integer currentMemberCount;
+    private ScoringProfile scoring;
     private String status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -36,6 +38,9 @@ public class LeagueResponse {
                 .creatorId(league.getCreator().getId())
                 .maxPlayers(league.getMaxPlayers())
                 .currentMemberCount(memberCount)
+                .scoring(league.getScoringProfile() != null
+                        ? league.getScoringProfile().withDefaults()
+                        : ScoringProfile.defaults())
                 .status(league.getStatus().name())
                 .createdAt(league.getCreatedAt())
                 .updatedAt(league.getUpdatedAt())
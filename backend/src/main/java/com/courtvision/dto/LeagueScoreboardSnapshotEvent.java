@@ -0,0 +1,80 @@
+package com.courtvision.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Kafka event message carrying a league's whole ranked scoreboard
+ * Published once per league each time its scores change, keyed by league ID; live snapshots carry
+ * intraday standings that are shown to clients but never ranked as persisted scores
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeagueScoreboardSnapshotEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String SNAPSHOT = "LEAGUE_SCOREBOARD_SNAPSHOT";
+    public static final String LIVE_SNAPSHOT = "LIVE_SCOREBOARD_SNAPSHOT";
+
+    @JsonProperty("event_id")
+    private String eventId;
+
+    @JsonProperty("event_type")
+    private String eventType; // SNAPSHOT or LIVE_SNAPSHOT
+
+    @JsonProperty("league_id")
+    private Long leagueId;
+
+    @JsonProperty("league_name")
+    private String leagueName;
+
+    // Highest score first
+    @JsonProperty("scores")
+    private List<RankedScore> scores;
+
+    @JsonProperty("timestamp")
+    private LocalDateTime timestamp;
+
+    /**
+     * One user's score and rank within the snapshot
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RankedScore implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @JsonProperty("rank")
+        private Integer rank;
+
+        @JsonProperty("user_id")
+        private Long userId;
+
+        @JsonProperty("username")
+        private String username;
+
+        @JsonProperty("total_score")
+        private Double totalScore;
+
+        @JsonProperty("average_score")
+        private Double averageScore;
+
+        @JsonProperty("players_evaluated")
+        private Integer playersEvaluated;
+
+        @JsonProperty("calculated_at")
+        private LocalDateTime calculatedAt;
+    }
+}
@@ -0,0 +1,38 @@
+package com.courtvision.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Compact player entry returned by the autocomplete endpoint
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlayerSuggestionDTO {
+
+    @JsonProperty("player_id")
+    private String playerId;
+
+    private String name;
+
+    private String team;
+
+    private String position;
+
+    /**
+     * Convert a catalog player to a suggestion
+     */
+    public static PlayerSuggestionDTO fromPlayer(NBAPlayerDTO player) {
+        return PlayerSuggestionDTO.builder()
+                .playerId(player.getPlayerId())
+                .name(player.getFullName())
+                .team(player.getTeam())
+                .position(player.getPosition())
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.courtvision.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One drafted player on one user's roster in one league
+ * Reverse-index row used to find the rosters affected by a player's stat changes
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RosterSlot {
+    private String nbaPlayerId;
+    private Long leagueId;
+    private Long userId;
+}
@@ -15,7 +15,7 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class ScoreCalculationDTO {
 
     @JsonProperty("id")
@@ -48,6 +48,10 @@ public class ScoreCalculationDTO {
     @JsonProperty("created_at")
     private LocalDateTime createdAt;
 
+    // Position in the league ranking (1 = highest); set when read from the leaderboard
+    @JsonProperty("rank")
+    private Integer rank;
+
     /**
      * Convert ScoreCalculation entity to DTO
      */
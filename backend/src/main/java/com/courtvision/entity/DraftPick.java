@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "draft_picks", indexes = {
     @Index(name = "idx_draft_id", columnList = "draft_id"),
-    @Index(name = "idx_picker_id", columnList = "picker_id")
+    @Index(name = "idx_picker_id", columnList = "picker_id"),
+    @Index(name = "idx_nba_player_id", columnList = "nba_player_id")
 })
 @Data
 @NoArgsConstructor
@@ -0,0 +1,46 @@
+package com.courtvision.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Claim on a once-per-day job by one node of the cluster
+ * The unique (job, run date) constraint makes the first insert win; later nodes skip the job for that date.
+ * A claim that is released, or never completed within its lease (e.g. the node died), can be claimed again.
+ */
+@Entity
+@Table(name = "job_claims",
+    uniqueConstraints = @UniqueConstraint(name = "uk_job_claims_job_date", columnNames = {"job_name", "run_date"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobClaim {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    // Node that claimed the job (pid@host)
+    @Column(name = "claimed_by", nullable = false)
+    private String claimedBy;
+
+    @Column(name = "claimed_at", nullable = false)
+    private LocalDateTime claimedAt;
+
+    // Set once the job's work is done; until then the claim only holds for its lease
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
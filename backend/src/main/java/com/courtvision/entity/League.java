@@ -1,10 +1,15 @@
 package com.courtvision.entity;
 
+import com.courtvision.stats.ScoringWeights;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
@@ -39,6 +44,17 @@ public class League {
     @Builder.Default
     private LeagueStatus status = LeagueStatus.ACTIVE;
 
+    // Scoring rules; columns left null use the defaults
+    @Embedded
+    private ScoringProfile scoringProfile;
+
+    // Scoring profile compiled when the league is loaded or saved
+    @Transient
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private ScoringWeights scoringWeights;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -56,6 +72,28 @@ public class League {
         updatedAt = LocalDateTime.now();
     }
 
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    protected void compileScoring() {
+        scoringWeights = (scoringProfile != null ? scoringProfile : new ScoringProfile()).compile();
+    }
+
+    public void setScoringProfile(ScoringProfile scoringProfile) {
+        this.scoringProfile = scoringProfile;
+        this.scoringWeights = null;
+    }
+
+    /**
+     * Scoring rules compiled to a weight vector
+     */
+    public ScoringWeights getScoringWeights() {
+        if (scoringWeights == null) {
+            compileScoring();
+        }
+        return scoringWeights;
+    }
+
     /**
      * Check if a user is the creator of this league
      */
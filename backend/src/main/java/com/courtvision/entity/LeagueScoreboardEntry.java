@@ -0,0 +1,71 @@
+package com.courtvision.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Current score of a user in a league
+ * Projection of score_calculations with one row per (league, user) pointing at the latest score;
+ * upserted in the same transaction as the scores it points at, so scoreboard reads are a single
+ * index range scan instead of a MAX(calculated_at) over the full history
+ */
+@Entity
+@Table(name = "league_scoreboard_current",
+    uniqueConstraints = @UniqueConstraint(name = "uk_scoreboard_league_user", columnNames = {"league_id", "user_id"}),
+    indexes = @Index(name = "idx_scoreboard_league_score", columnList = "league_id, total_score"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeagueScoreboardEntry {
+
+    // Pooled sequence, so upserts of new entries are JDBC-batched
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "league_scoreboard_current_seq")
+    @SequenceGenerator(name = "league_scoreboard_current_seq", sequenceName = "league_scoreboard_current_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "league_id", nullable = false)
+    private League league;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // Not enforced in the database: score_calculations is partitioned, so its id alone is not unique there
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "score_calculation_id", nullable = false,
+        foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private ScoreCalculation score;
+
+    // Copied from the score for ordering within the league index
+    @Column(name = "total_score", nullable = false)
+    private Double totalScore;
+
+    @Column(name = "calculated_at", nullable = false)
+    private LocalDateTime calculatedAt;
+
+    /**
+     * Point this entry at a newer score
+     */
+    public void update(ScoreCalculation latest) {
+        this.score = latest;
+        this.totalScore = latest.getTotalScore();
+        this.calculatedAt = latest.getCalculatedAt();
+    }
+
+    public static LeagueScoreboardEntry of(ScoreCalculation score) {
+        LeagueScoreboardEntry entry = LeagueScoreboardEntry.builder()
+                .league(score.getLeague())
+                .user(score.getUser())
+                .build();
+        entry.update(score);
+        return entry;
+    }
+}
@@ -0,0 +1,73 @@
+package com.courtvision.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Ledger entry for scoring one league on one run date
+ * Marked COMPLETED in the same transaction as the scores it produced, so a league is either
+ * scored and recorded or neither; a crashed run resumes with the leagues not yet completed
+ */
+@Entity
+@Table(name = "scoring_runs",
+    uniqueConstraints = @UniqueConstraint(name = "uk_scoring_runs_league_date", columnNames = {"league_id", "run_date"}),
+    indexes = @Index(name = "idx_scoring_runs_date_status", columnList = "run_date, status"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeagueScoringRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "league_id", nullable = false)
+    private League league;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    // ID of the scoring pass that last worked on the league (shared across nodes in distributed mode)
+    @Column(name = "run_id", length = 36)
+    private String runId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RunStatus status;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "users_scored")
+    private Integer usersScored;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    /**
+     * Scoring run status enum
+     */
+    public enum RunStatus {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
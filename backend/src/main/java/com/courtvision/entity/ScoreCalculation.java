@@ -11,28 +11,30 @@ import java.time.LocalDateTime;
 /**
  * Represents a calculated score for a user's team in a league
  * Scores are calculated once daily based on player stats from NBA API
+ * On PostgreSQL the table is partitioned by month on calculated_at; its partitions, indexes and
+ * foreign keys are managed by ScoreHistoryService
  */
 @Entity
-@Table(name = "score_calculations", indexes = {
-    @Index(name = "idx_league_user", columnList = "league_id, user_id"),
-    @Index(name = "idx_calculated_at", columnList = "calculated_at")
-})
+@Table(name = "score_calculations")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class ScoreCalculation {
 
+    // Pooled sequence, so inserts are JDBC-batched (Hibernate cannot batch IDENTITY inserts)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "score_calculations_seq")
+    @SequenceGenerator(name = "score_calculations_seq", sequenceName = "score_calculations_seq", allocationSize = 50)
     private Long id;
 
+    // Foreign keys are added by ScoreHistoryService (see the class comment)
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "league_id", nullable = false)
+    @JoinColumn(name = "league_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private League league;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
     @Column(nullable = false)
@@ -0,0 +1,60 @@
+package com.courtvision.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Weekly rollup of a user's score history in a league
+ * Written from score_calculations once a week completes, and kept after the raw rows are dropped
+ */
+@Entity
+@Table(name = "score_history_weekly",
+    uniqueConstraints = @UniqueConstraint(name = "uk_score_history_weekly", columnNames = {"league_id", "user_id", "week_start"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScoreHistoryWeekly {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "league_id", nullable = false)
+    private League league;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // Monday of the week
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    // Last score calculated during the week
+    @Column(name = "closing_score", nullable = false)
+    private Double closingScore;
+
+    @Column(name = "min_score", nullable = false)
+    private Double minScore;
+
+    @Column(name = "max_score", nullable = false)
+    private Double maxScore;
+
+    @Column(name = "average_score", nullable = false)
+    private Double averageScore;
+
+    // Raw score rows rolled up
+    @Column(nullable = false)
+    private Integer samples;
+
+    @Column(name = "rolled_up_at", nullable = false)
+    private LocalDateTime rolledUpAt;
+}
@@ -0,0 +1,120 @@
+package com.courtvision.entity;
+
+import com.courtvision.stats.ScoringWeights;
+import com.courtvision.stats.Stat;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A league's scoring rules: fantasy points per unit of each stat
+ * Unset categories use the default rules; a weight of 0 drops the category
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScoringProfile {
+
+    // Default scoring configuration (fantasy points per stat)
+    public static final double DEFAULT_POINTS = 1.0;
+    public static final double DEFAULT_REBOUNDS = 1.2;
+    public static final double DEFAULT_ASSISTS = 1.5;
+    public static final double DEFAULT_STEALS = 2.0;
+    public static final double DEFAULT_BLOCKS = 2.0;
+    public static final double DEFAULT_TURNOVERS = -0.5;
+    public static final double DEFAULT_FOULS = -0.2;
+
+    // Largest weight (in either direction) a league can set
+    public static final double MAX_WEIGHT = 10.0;
+
+    @Column(name = "scoring_points")
+    private Double points;
+
+    @Column(name = "scoring_rebounds")
+    private Double rebounds;
+
+    @Column(name = "scoring_assists")
+    private Double assists;
+
+    @Column(name = "scoring_steals")
+    private Double steals;
+
+    @Column(name = "scoring_blocks")
+    private Double blocks;
+
+    @Column(name = "scoring_turnovers")
+    private Double turnovers;
+
+    @Column(name = "scoring_fouls")
+    private Double fouls;
+
+    /**
+     * The default rules, fully populated
+     */
+    public static ScoringProfile defaults() {
+        return new ScoringProfile().withDefaults();
+    }
+
+    /**
+     * Copy of this profile with unset categories filled from the defaults
+     */
+    public ScoringProfile withDefaults() {
+        return ScoringProfile.builder()
+                .points(orDefault(points, DEFAULT_POINTS))
+                .rebounds(orDefault(rebounds, DEFAULT_REBOUNDS))
+                .assists(orDefault(assists, DEFAULT_ASSISTS))
+                .steals(orDefault(steals, DEFAULT_STEALS))
+                .blocks(orDefault(blocks, DEFAULT_BLOCKS))
+                .turnovers(orDefault(turnovers, DEFAULT_TURNOVERS))
+                .fouls(orDefault(fouls, DEFAULT_FOULS))
+                .build();
+    }
+
+    /**
+     * Check every set weight is a finite number within +/- MAX_WEIGHT
+     * @throws IllegalArgumentException naming the first invalid category
+     */
+    public void validate() {
+        ScoringProfile resolved = withDefaults();
+        for (Stat stat : Stat.values()) {
+            double weight = resolved.weight(stat);
+            if (!Double.isFinite(weight) || Math.abs(weight) > MAX_WEIGHT) {
+                throw new IllegalArgumentException("Scoring weight for " + stat.name().toLowerCase()
+                        + " must be between -" + MAX_WEIGHT + " and " + MAX_WEIGHT);
+            }
+        }
+    }
+
+    /**
+     * Compile to the primitive weight vector scoring runs on
+     */
+    public ScoringWeights compile() {
+        ScoringProfile resolved = withDefaults();
+        double[] weights = new double[Stat.values().length];
+        for (Stat stat : Stat.values()) {
+            weights[stat.ordinal()] = resolved.weight(stat);
+        }
+        return ScoringWeights.of(weights);
+    }
+
+    private double weight(Stat stat) {
+        return switch (stat) {
+            case POINTS -> points;
+            case REBOUNDS -> rebounds;
+            case ASSISTS -> assists;
+            case STEALS -> steals;
+            case BLOCKS -> blocks;
+            case TURNOVERS -> turnovers;
+            case FOULS -> fouls;
+        };
+    }
+
+    private static Double orDefault(Double value, double fallback) {
+        return value != null ? value : fallback;
+    }
+}
@@ -0,0 +1,70 @@
+package com.courtvision.kafka;
+
+import com.courtvision.config.KafkaConfig;
+import com.courtvision.scheduler.ScoreCalculationScheduler;
+import com.courtvision.service.ScoreService;
+import com.courtvision.service.ScoringRun;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Kafka consumer for score calculation requests
+ * Runs on every node in one consumer group, so the leagues of a nightly run are spread across the cluster
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScoreCalculationConsumer {
+
+    private final ScoreCalculationScheduler scoreCalculationScheduler;
+    private final ScoreService scoreService;
+
+    // Node-local scoring runs by run ID, shared by this node's consumer threads; runs for older
+    // stats dates are dropped once a newer date's requests arrive
+    private final Map<String, ScoringRun> runs = new ConcurrentHashMap<>();
+
+    /**
+     * Score one league
+     * Exceptions propagate to the container's error handler, which retries the league before skipping it
+     * @param event The score calculation request
+     */
+    @KafkaListener(
+            topics = KafkaConfig.SCORE_CALCULATION_TOPIC,
+            groupId = "courtvision-scoring-workers",
+            containerFactory = "scoreCalculationKafkaListenerContainerFactory"
+    )
+    public void consumeScoreCalculationRequest(ScoreCalculationRequestEvent event) {
+        log.debug("Received score calculation request: League={}, Run={}", event.getLeagueId(), event.getRunId());
+        if (event.getLeagueId() == null) {
+            log.error("Invalid score calculation request: {}", event.getEventId());
+            return;
+        }
+
+        scoreCalculationScheduler.scoreLeagueIfDue(event.getLeagueId(), event.getLeagueName(), scoringRunFor(event));
+    }
+
+    /**
+     * The node-local scoring run for a request's run ID, started on the first request of each run
+     * Requests of different runs may interleave (e.g. a re-published date); each keeps its own run
+     */
+    private ScoringRun scoringRunFor(ScoreCalculationRequestEvent event) {
+        String runId = String.valueOf(event.getRunId());
+        ScoringRun existing = runs.get(runId);
+        if (existing != null) {
+            return existing;
+        }
+        LocalDate statsDate = event.getStatsDate() != null ? event.getStatsDate() : LocalDate.now();
+        ScoringRun run = runs.computeIfAbsent(runId, id -> {
+            log.info("Started scoring run {} for stats through {}", id, statsDate);
+            return scoreService.startScoringRun(id, statsDate);
+        });
+        runs.values().removeIf(other -> other.getStatsDate() != null && other.getStatsDate().isBefore(statsDate));
+        return run;
+    }
+}
@@ -0,0 +1,64 @@
+package com.courtvision.kafka;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Score Calculation Request Event
+ * One unit of scoring work: calculate one league's scores as part of a scoring run
+ * Keyed by league ID, so requests for the same league always land on the same partition
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScoreCalculationRequestEvent {
+
+    /**
+     * Unique event ID
+     */
+    @JsonProperty("event_id")
+    private String eventId;
+
+    /**
+     * Event type (should be "SCORE_CALCULATION_REQUESTED")
+     */
+    @JsonProperty("event_type")
+    private String eventType;
+
+    /**
+     * Scoring run the request belongs to (shared by every league in one nightly run)
+     */
+    @JsonProperty("run_id")
+    private String runId;
+
+    /**
+     * League ID
+     */
+    @JsonProperty("league_id")
+    private Long leagueId;
+
+    /**
+     * League name
+     */
+    @JsonProperty("league_name")
+    private String leagueName;
+
+    /**
+     * Stats date the run scores through
+     */
+    @JsonProperty("stats_date")
+    private LocalDate statsDate;
+
+    /**
+     * Timestamp when the request was published
+     */
+    @JsonProperty("requested_at")
+    private LocalDateTime requestedAt;
+}
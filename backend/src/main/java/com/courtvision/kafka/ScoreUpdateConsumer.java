@@ -2,8 +2,9 @@ package com.courtvision.kafka;
 
 import com.courtvision.config.KafkaConfig;
 import com.courtvision.controller.LeaderboardController;
+import com.courtvision.dto.LeagueScoreboardSnapshotEvent;
 import com.courtvision.dto.ScoreCalculationDTO;
-import com.courtvision.dto.ScoreUpdateEvent;
+import com.courtvision.service.LeaderboardService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -13,7 +14,10 @@ import java.util.List;
 
 /**
  * Kafka consumer for score update events
- * Listens to league-scores-updated topic and broadcasts to WebSocket clients
+ * Listens to league-scoreboard-snapshots topic, keeps the node's in-memory leaderboards current and
+ * broadcasts to WebSocket clients. Every node consumes every snapshot under its own group, since both
+ * the leaderboards and the WebSocket sessions are node-local. Live snapshots (intraday standings from
+ * the one polling node) are only relayed to clients; they never touch the leaderboards.
  */
 @Slf4j
 @Service
@@ -21,47 +25,60 @@ import java.util.List;
 public class ScoreUpdateConsumer {
 
     private final LeaderboardController leaderboardController;
+    private final LeaderboardService leaderboardService;
 
     /**
-     * Consume score update events from Kafka and broadcast to WebSocket
+     * Consume league scoreboard snapshots from Kafka and broadcast to WebSocket
      * Called when scores are updated via the scheduled job or manual trigger
-     * @param event The score update event
+     * @param event The league's ranked scoreboard
      */
     @KafkaListener(
-            topics = KafkaConfig.LEAGUE_SCORES_TOPIC,
-            groupId = "courtvision-score-consumer-group"
+            topics = KafkaConfig.LEAGUE_SCOREBOARD_TOPIC,
+            groupId = "courtvision-scoreboard-#{T(java.util.UUID).randomUUID()}",
+            containerFactory = "leagueScoreboardKafkaListenerContainerFactory"
     )
-    public void consumeScoreUpdate(ScoreUpdateEvent event) {
-        log.info("Received score update: League={}, User={}, Score={}, Rank={}",
-                event.getLeagueName(),
-                event.getUsername(),
-                event.getTotalScore(),
-                event.getRank());
+    public void consumeScoreboardSnapshot(LeagueScoreboardSnapshotEvent event) {
+        List<LeagueScoreboardSnapshotEvent.RankedScore> scores =
+                event.getScores() != null ? event.getScores() : List.of();
+        log.info("Received scoreboard snapshot: League={}, Users={}", event.getLeagueName(), scores.size());
 
         try {
-            // Convert Kafka event to DTO for WebSocket broadcast
-            ScoreCalculationDTO scoreDTO = ScoreCalculationDTO.builder()
-                    .userId(event.getUserId())
-                    .username(event.getUsername())
-                    .totalScore(event.getTotalScore())
-                    .averageScore(event.getAverageScore())
-                    .playersEvaluated(event.getPlayersEvaluated())
-                    .calculatedAt(event.getCalculatedAt())
-                    .build();
+            boolean live = LeagueScoreboardSnapshotEvent.LIVE_SNAPSHOT.equals(event.getEventType());
+            if (!live) {
+                // Scores this node committed itself are already applied; those are skipped as not newer
+                leaderboardService.apply(event);
+            }
 
-            List<ScoreCalculationDTO> scoreList = List.of(scoreDTO);
+            // Convert Kafka event to DTOs for WebSocket broadcast, keeping the ranking order
+            List<ScoreCalculationDTO> scoreList = scores.stream()
+                    .map(score -> ScoreCalculationDTO.builder()
+                            .leagueId(event.getLeagueId())
+                            .leagueName(event.getLeagueName())
+                            .rank(score.getRank())
+                            .userId(score.getUserId())
+                            .username(score.getUsername())
+                            .totalScore(score.getTotalScore())
+                            .averageScore(score.getAverageScore())
+                            .playersEvaluated(score.getPlayersEvaluated())
+                            .calculatedAt(score.getCalculatedAt())
+                            .build())
+                    .toList();
 
             // Broadcast to WebSocket clients via LeaderboardController
-            leaderboardController.broadcastScoreUpdate(
-                    event.getLeagueId(),
-                    event.getLeagueName(),
-                    scoreList
-            );
+            if (live) {
+                leaderboardController.broadcastLiveScores(event.getLeagueId(), event.getLeagueName(), scoreList);
+            } else {
+                leaderboardController.broadcastScoreUpdate(
+                        event.getLeagueId(),
+                        event.getLeagueName(),
+                        scoreList
+                );
+            }
 
-            log.debug("Broadcast score update via WebSocket for league: {}", event.getLeagueId());
+            log.debug("Broadcast scoreboard snapshot via WebSocket for league: {}", event.getLeagueId());
 
         } catch (Exception e) {
-            log.error("Error processing score update event", e);
+            log.error("Error processing scoreboard snapshot event", e);
         }
     }
 }
@@ -32,7 +32,7 @@ public class WinnerAnnouncementConsumer {
     @KafkaListener(
         topics = "league-winners-announced",
         groupId = "courtvision-winner-consumer-group",
-        containerFactory = "kafkaListenerContainerFactory"
+        containerFactory = "winnerAnnouncementKafkaListenerContainerFactory"
     )
     public void consumeWinnerAnnouncement(WinnerAnnouncementEvent event) {
         try {
@@ -0,0 +1,228 @@
+package com.courtvision.leaderboard;
+
+import com.courtvision.dto.ScoreCalculationDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-memory ranking of one league's current scores
+ *
+ * Scores are held in an order-statistic treap keyed by (total score descending, user ID ascending),
+ * where every node also records the size of its subtree. Updating a user's score, finding a user's
+ * rank and reading any window of the ranking (top-k, or a page further down) are all O(log n) plus
+ * the size of the window, so nothing is ever re-sorted. A map from user ID to node finds the key
+ * to remove when a user's score changes.
+ *
+ * All methods are synchronized; every operation is a few dozen node visits even for large leagues.
+ */
+public final class LeagueLeaderboard {
+
+    private final Map<Long, Node> nodesByUser = new HashMap<>();
+    private Node root;
+
+    /**
+     * Insert or replace a user's score
+     * A score no newer than the one already held is ignored, so replays and out-of-order updates are harmless
+     * @param score The user's score (its rank is ignored)
+     * @return true if the ranking changed
+     */
+    public synchronized boolean update(ScoreCalculationDTO score) {
+        Node existing = nodesByUser.get(score.getUserId());
+        if (existing != null) {
+            if (score.getCalculatedAt() == null || (existing.score.getCalculatedAt() != null
+                    && !score.getCalculatedAt().isAfter(existing.score.getCalculatedAt()))) {
+                return false;
+            }
+            root = remove(root, existing);
+        }
+        Node node = new Node(score.toBuilder().rank(null).build());
+        Node[] split = split(root, node, false);
+        root = merge(merge(split[0], node), split[1]);
+        nodesByUser.put(node.userId, node);
+        return true;
+    }
+
+    /**
+     * Remove a user's score (e.g. when they leave the league)
+     * @return true if the user had a score
+     */
+    public synchronized boolean remove(Long userId) {
+        Node existing = nodesByUser.remove(userId);
+        if (existing == null) {
+            return false;
+        }
+        root = remove(root, existing);
+        return true;
+    }
+
+    /**
+     * Remove every user outside the given set whose score is older than the given time
+     * Used to drop departed members when a full snapshot of the league arrives; scores newer
+     * than the snapshot are kept, since the snapshot may simply predate them
+     * @return The number of scores removed
+     */
+    public synchronized int retain(Set<Long> userIds, LocalDateTime before) {
+        List<Node> departed = new ArrayList<>();
+        for (Node node : nodesByUser.values()) {
+            if (!userIds.contains(node.userId) && (node.score.getCalculatedAt() == null
+                    || node.score.getCalculatedAt().isBefore(before))) {
+                departed.add(node);
+            }
+        }
+        for (Node node : departed) {
+            nodesByUser.remove(node.userId);
+            root = remove(root, node);
+        }
+        return departed.size();
+    }
+
+    /**
+     * A user's score with its rank set (1 = highest), or null if the user has no score
+     */
+    public synchronized ScoreCalculationDTO get(Long userId) {
+        Node node = nodesByUser.get(userId);
+        if (node == null) {
+            return null;
+        }
+        int before = 0;
+        Node current = root;
+        while (current != node) {
+            if (compare(node, current) < 0) {
+                current = current.left;
+            } else {
+                before += size(current.left) + 1;
+                current = current.right;
+            }
+        }
+        return ranked(node, before + size(node.left) + 1);
+    }
+
+    /**
+     * A window of the ranking, highest first, with ranks set
+     * @param offset Scores to skip from the top
+     * @param limit Maximum scores returned
+     */
+    public synchronized List<ScoreCalculationDTO> range(int offset, int limit) {
+        int from = Math.max(0, offset);
+        int to = (int) Math.min(size(root), (long) from + Math.max(0, limit));
+        List<ScoreCalculationDTO> window = new ArrayList<>(Math.max(0, to - from));
+        collect(root, 0, from, to, window);
+        return window;
+    }
+
+    /**
+     * The whole ranking, highest first, with ranks set
+     */
+    public List<ScoreCalculationDTO> all() {
+        return range(0, Integer.MAX_VALUE);
+    }
+
+    public synchronized int size() {
+        return size(root);
+    }
+
+    /**
+     * Append the nodes at positions [from, to) of the subtree whose first node is at position base
+     */
+    private static void collect(Node node, int base, int from, int to, List<ScoreCalculationDTO> out) {
+        if (node == null || from >= to) {
+            return;
+        }
+        int position = base + size(node.left);
+        if (from < position) {
+            collect(node.left, base, from, Math.min(to, position), out);
+        }
+        if (from <= position && position < to) {
+            out.add(ranked(node, position + 1));
+        }
+        if (to > position + 1) {
+            collect(node.right, position + 1, Math.max(from, position + 1), to, out);
+        }
+    }
+
+    private static ScoreCalculationDTO ranked(Node node, int rank) {
+        return node.score.toBuilder().rank(rank).build();
+    }
+
+    private static Node remove(Node tree, Node target) {
+        Node[] below = split(tree, target, false);
+        Node[] rest = split(below[1], target, true);
+        return merge(below[0], rest[1]);
+    }
+
+    /**
+     * Split a subtree into nodes ordered before the key (or at it, when inclusive) and the rest
+     */
+    private static Node[] split(Node node, Node key, boolean inclusive) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        int cmp = compare(node, key);
+        if (cmp < 0 || (inclusive && cmp == 0)) {
+            Node[] right = split(node.right, key, inclusive);
+            node.right = right[0];
+            node.resize();
+            return new Node[] {node, right[1]};
+        }
+        Node[] left = split(node.left, key, inclusive);
+        node.left = left[1];
+        node.resize();
+        return new Node[] {left[0], node};
+    }
+
+    /**
+     * Join two subtrees where every node of the first is ordered before every node of the second
+     */
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            first.resize();
+            return first;
+        }
+        second.left = merge(first, second.left);
+        second.resize();
+        return second;
+    }
+
+    private static int compare(Node a, Node b) {
+        int cmp = Double.compare(b.total, a.total);
+        return cmp != 0 ? cmp : Long.compare(a.userId, b.userId);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+
+        private final ScoreCalculationDTO score;
+        private final double total;
+        private final long userId;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(ScoreCalculationDTO score) {
+            this.score = score;
+            this.total = score.getTotalScore() != null ? score.getTotalScore() : 0.0;
+            this.userId = score.getUserId();
+        }
+
+        private void resize() {
+            size = 1 + LeagueLeaderboard.size(left) + LeagueLeaderboard.size(right);
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.courtvision.repository;
 
+import com.courtvision.dto.RosterSlot;
 import com.courtvision.entity.DraftPick;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -41,4 +43,16 @@ public interface DraftPickRepository extends JpaRepository<DraftPick, Long> {
      * Check if a player has been drafted
      */
     boolean existsByDraftIdAndPlayerName(Long draftId, String playerName);
+
+    /**
+     * Check if a player has been drafted, by NBA player ID
+     */
+    boolean existsByDraftIdAndNbaPlayerId(Long draftId, String nbaPlayerId);
+
+    /**
+     * Find every roster (league and user) holding any of the given players
+     */
+    @Query("SELECT new com.courtvision.dto.RosterSlot(dp.nbaPlayerId, dp.draft.league.id, dp.picker.id) " +
+           "FROM DraftPick dp WHERE dp.nbaPlayerId IN :nbaPlayerIds")
+    List<RosterSlot> findRosterSlotsByNbaPlayerIds(@Param("nbaPlayerIds") Collection<String> nbaPlayerIds);
 }
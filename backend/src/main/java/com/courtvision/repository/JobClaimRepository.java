@@ -0,0 +1,65 @@
+package com.courtvision.repository;
+
+import com.courtvision.entity.JobClaim;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Repository for job_claims
+ */
+@Repository
+public interface JobClaimRepository extends JpaRepository<JobClaim, Long> {
+
+    /**
+     * Find the dates a job was claimed for within a range (inclusive)
+     */
+    @Query("SELECT c.runDate FROM JobClaim c WHERE c.jobName = :jobName AND c.runDate BETWEEN :from AND :to")
+    Set<LocalDate> findRunDates(@Param("jobName") String jobName, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Move an uncompleted claim claimed before a cutoff to another node
+     * @return 1 if the claim was taken over
+     */
+    @Modifying
+    @Query("UPDATE JobClaim c SET c.claimedBy = :claimedBy, c.claimedAt = :claimedAt " +
+           "WHERE c.jobName = :jobName AND c.runDate = :runDate AND c.completedAt IS NULL AND c.claimedAt < :staleBefore")
+    int takeOverStale(@Param("jobName") String jobName, @Param("runDate") LocalDate runDate,
+                      @Param("claimedBy") String claimedBy, @Param("claimedAt") LocalDateTime claimedAt,
+                      @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * Extend a node's uncompleted claim from a new claim time
+     * @return 1 if the node still held the claim
+     */
+    @Modifying
+    @Query("UPDATE JobClaim c SET c.claimedAt = :claimedAt " +
+           "WHERE c.jobName = :jobName AND c.runDate = :runDate AND c.claimedBy = :claimedBy AND c.completedAt IS NULL")
+    int renew(@Param("jobName") String jobName, @Param("runDate") LocalDate runDate,
+              @Param("claimedBy") String claimedBy, @Param("claimedAt") LocalDateTime claimedAt);
+
+    /**
+     * Mark a node's claim completed
+     * @return 1 if the node still held the claim
+     */
+    @Modifying
+    @Query("UPDATE JobClaim c SET c.completedAt = :completedAt " +
+           "WHERE c.jobName = :jobName AND c.runDate = :runDate AND c.claimedBy = :claimedBy")
+    int markCompleted(@Param("jobName") String jobName, @Param("runDate") LocalDate runDate,
+                      @Param("claimedBy") String claimedBy, @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * Delete a node's uncompleted claim
+     */
+    @Modifying
+    @Query("DELETE FROM JobClaim c WHERE c.jobName = :jobName AND c.runDate = :runDate " +
+           "AND c.claimedBy = :claimedBy AND c.completedAt IS NULL")
+    int deleteUncompleted(@Param("jobName") String jobName, @Param("runDate") LocalDate runDate,
+                          @Param("claimedBy") String claimedBy);
+}
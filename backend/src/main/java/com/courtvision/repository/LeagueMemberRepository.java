@@ -17,6 +17,12 @@ public interface LeagueMemberRepository extends JpaRepository<LeagueMember, Long
      */
     List<LeagueMember> findByLeagueId(Long leagueId);
 
+    /**
+     * Find all members of a league with their users loaded in the same query
+     */
+    @Query("SELECT lm FROM LeagueMember lm JOIN FETCH lm.user WHERE lm.league.id = :leagueId")
+    List<LeagueMember> findByLeagueIdWithUser(@Param("leagueId") Long leagueId);
+
     /**
      * Find a specific member in a league
      */
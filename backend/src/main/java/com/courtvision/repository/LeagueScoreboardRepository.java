@@ -0,0 +1,50 @@
+package com.courtvision.repository;
+
+import com.courtvision.entity.LeagueScoreboardEntry;
+import com.courtvision.entity.ScoreCalculation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Repository for the league_scoreboard_current projection
+ */
+@Repository
+public interface LeagueScoreboardRepository extends JpaRepository<LeagueScoreboardEntry, Long> {
+
+    /**
+     * Find the current score of every user in a league, highest first (ties by user ID), with league and user loaded
+     */
+    @Query("SELECT s FROM LeagueScoreboardEntry e JOIN e.score s JOIN FETCH s.league JOIN FETCH s.user " +
+           "WHERE e.league.id = :leagueId ORDER BY e.totalScore DESC, e.user.id")
+    List<ScoreCalculation> findCurrentScoresOrdered(@Param("leagueId") Long leagueId);
+
+    /**
+     * Find the current scores of every user in the given leagues, with league and user loaded
+     */
+    @Query("SELECT s FROM LeagueScoreboardEntry e JOIN e.score s JOIN FETCH s.league JOIN FETCH s.user " +
+           "WHERE e.league.id IN :leagueIds")
+    List<ScoreCalculation> findCurrentScoresForLeagues(@Param("leagueIds") Collection<Long> leagueIds);
+
+    /**
+     * Find the IDs of every league with at least one score
+     */
+    @Query("SELECT DISTINCT e.league.id FROM LeagueScoreboardEntry e")
+    Set<Long> findScoredLeagueIds();
+
+    /**
+     * Find the scoreboard entries of the given leagues (for upserting)
+     */
+    @Query("SELECT e FROM LeagueScoreboardEntry e WHERE e.league.id IN :leagueIds")
+    List<LeagueScoreboardEntry> findByLeagueIds(@Param("leagueIds") Collection<Long> leagueIds);
+
+    /**
+     * Delete a user's scoreboard entry in a league (e.g. when they leave it)
+     */
+    void deleteByLeagueIdAndUserId(Long leagueId, Long userId);
+}
@@ -0,0 +1,48 @@
+package com.courtvision.repository;
+
+import com.courtvision.entity.LeagueScoringRun;
+import com.courtvision.entity.LeagueScoringRun.RunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Repository for the scoring_runs ledger
+ */
+@Repository
+public interface LeagueScoringRunRepository extends JpaRepository<LeagueScoringRun, Long> {
+
+    /**
+     * Find a league's ledger entry for a run date
+     */
+    Optional<LeagueScoringRun> findByLeagueIdAndRunDate(Long leagueId, LocalDate runDate);
+
+    /**
+     * Check if a league's run for a date has a given status
+     */
+    boolean existsByLeagueIdAndRunDateAndStatus(Long leagueId, LocalDate runDate, RunStatus status);
+
+    /**
+     * Find the IDs of every league with a given status on a run date (one index range scan)
+     */
+    @Query("SELECT r.league.id FROM LeagueScoringRun r WHERE r.runDate = :runDate AND r.status = :status")
+    Set<Long> findLeagueIdsByRunDateAndStatus(@Param("runDate") LocalDate runDate, @Param("status") RunStatus status);
+
+    /**
+     * Find the IDs of every league fully scored on or after a date with no pick made and no member
+     * joined since that scoring completed, and no pick that stat deltas cannot reach (no player ID,
+     * or a synthetic one matching the given pattern)
+     */
+    @Query("SELECT DISTINCT r.league.id FROM LeagueScoringRun r WHERE r.runDate >= :since AND r.status = :status " +
+           "AND NOT EXISTS (SELECT p.id FROM DraftPick p WHERE p.draft.league.id = r.league.id AND p.pickedAt > r.completedAt) " +
+           "AND NOT EXISTS (SELECT p.id FROM DraftPick p WHERE p.draft.league.id = r.league.id " +
+           "AND (p.nbaPlayerId IS NULL OR p.nbaPlayerId LIKE :unlinkedIdPattern)) " +
+           "AND NOT EXISTS (SELECT m.id FROM LeagueMember m WHERE m.league.id = r.league.id AND m.joinedAt > r.completedAt)")
+    Set<Long> findUnchangedLeagueIdsScoredSince(@Param("since") LocalDate since, @Param("status") RunStatus status,
+                                                @Param("unlinkedIdPattern") String unlinkedIdPattern);
+}
@@ -22,12 +22,17 @@ public interface ScoreCalculationRepository extends JpaRepository<ScoreCalculati
     Optional<ScoreCalculation> findFirstByLeagueIdAndUserIdOrderByCalculatedAtDesc(Long leagueId, Long userId);
 
     /**
-     * Find all scores for a league ordered by score descending
+     * Find the latest score of every user in every league
+     * Only used to rebuild the league_scoreboard_current projection
      */
-    @Query("SELECT s FROM ScoreCalculation s WHERE s.league.id = :leagueId " +
-           "AND s.calculatedAt = (SELECT MAX(sc.calculatedAt) FROM ScoreCalculation sc WHERE sc.league.id = s.league.id AND sc.user.id = s.user.id) " +
-           "ORDER BY s.totalScore DESC")
-    List<ScoreCalculation> findLatestLeagueScoresOrdered(@Param("leagueId") Long leagueId);
+    @Query("SELECT s FROM ScoreCalculation s " +
+           "WHERE s.id = (SELECT MAX(sc.id) FROM ScoreCalculation sc WHERE sc.league.id = s.league.id AND sc.user.id = s.user.id)")
+    List<ScoreCalculation> findLatestScores();
+
+    /**
+     * Check if a league has ever been scored
+     */
+    boolean existsByLeagueId(Long leagueId);
 
     /**
      * Find all scores for a user across leagues
@@ -45,11 +50,4 @@ public interface ScoreCalculationRepository extends JpaRepository<ScoreCalculati
     @Query("SELECT s FROM ScoreCalculation s WHERE s.league.id = :leagueId " +
            "AND CAST(s.calculatedAt AS java.time.LocalDate) = CAST(:date AS java.time.LocalDate)")
     List<ScoreCalculation> findScoresForLeagueOnDate(@Param("leagueId") Long leagueId, @Param("date") LocalDateTime date);
-
-    /**
-     * Check if scores have been calculated for a league today
-     */
-    @Query("SELECT COUNT(s) FROM ScoreCalculation s WHERE s.league.id = :leagueId " +
-           "AND CAST(s.calculatedAt AS java.time.LocalDate) = CURRENT_DATE")
-    long countScoresCalculatedToday(@Param("leagueId") Long leagueId);
 }
@@ -0,0 +1,112 @@
+package com.courtvision.scheduler;
+
+import com.courtvision.service.JobClaimService;
+import com.courtvision.service.LiveScoringService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * Scheduled job for live intraday scoring (opt-in)
+ * Polls the game day's box scores every interval (default: 60 seconds) while inside the game window,
+ * which may cross midnight; polls after midnight belong to the previous game day. One node per game day
+ * polls: it claims the day through job_claims and renews the claim on every poll, and another node
+ * takes over once renewals stop for three intervals
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveScoringScheduler {
+
+    static final String LIVE_SCORING_JOB = "live-scoring";
+
+    private final LiveScoringService liveScoringService;
+    private final JobClaimService jobClaimService;
+
+    @Value("${scheduling.live-scoring.enabled:false}")
+    private boolean enabled;
+
+    // Time zone the game window and game dates are in
+    @Value("${scheduling.live-scoring.zone:America/New_York}")
+    private String zone;
+
+    @Value("${scheduling.live-scoring.window-start:12:00}")
+    private String windowStart;
+
+    @Value("${scheduling.live-scoring.window-end:02:00}")
+    private String windowEnd;
+
+    @Value("${scheduling.live-scoring.interval:60000}")
+    private long interval;
+
+    private ZoneId zoneId;
+    private LocalTime start;
+    private LocalTime end;
+
+    // Game day this node holds the polling claim for, if any
+    private LocalDate claimedGameDate;
+
+    @PostConstruct
+    void parseWindow() {
+        zoneId = ZoneId.of(zone);
+        start = LocalTime.parse(windowStart);
+        end = LocalTime.parse(windowEnd);
+    }
+
+    /**
+     * Push live score changes while games are in progress
+     */
+    @Scheduled(fixedDelayString = "${scheduling.live-scoring.interval:60000}",
+            initialDelayString = "${scheduling.live-scoring.interval:60000}")
+    public void pollLiveScores() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate gameDate = gameDateAt(ZonedDateTime.now(zoneId));
+        if (gameDate == null) {
+            return;
+        }
+        try {
+            if (holdsPollerClaim(gameDate)) {
+                liveScoringService.poll(gameDate);
+            }
+        } catch (Exception e) {
+            log.error("Error polling live scores for {}", gameDate, e);
+        }
+    }
+
+    /**
+     * Whether this node is the game day's poller: renew the claim it holds, or try to claim the day
+     */
+    private boolean holdsPollerClaim(LocalDate gameDate) {
+        if (gameDate.equals(claimedGameDate) && jobClaimService.renew(LIVE_SCORING_JOB, gameDate)) {
+            return true;
+        }
+        boolean claimed = jobClaimService.tryClaim(LIVE_SCORING_JOB, gameDate, Duration.ofMillis(interval * 3));
+        claimedGameDate = claimed ? gameDate : null;
+        return claimed;
+    }
+
+    /**
+     * The game day a moment belongs to, or null outside the game window
+     */
+    private LocalDate gameDateAt(ZonedDateTime now) {
+        LocalTime time = now.toLocalTime();
+        if (!end.isBefore(start)) {
+            return !time.isBefore(start) && time.isBefore(end) ? now.toLocalDate() : null;
+        }
+        if (!time.isBefore(start)) {
+            return now.toLocalDate();
+        }
+        return time.isBefore(end) ? now.toLocalDate().minusDays(1) : null;
+    }
+}
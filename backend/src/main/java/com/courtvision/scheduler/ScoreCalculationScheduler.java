@@ -1,16 +1,36 @@
 package com.courtvision.scheduler;
 
+import com.courtvision.config.KafkaConfig;
 import com.courtvision.entity.League;
+import com.courtvision.kafka.ScoreCalculationRequestEvent;
 import com.courtvision.repository.LeagueRepository;
+import com.courtvision.service.JobClaimService;
 import com.courtvision.service.ScoreService;
+import com.courtvision.service.ScoringLedgerService;
+import com.courtvision.service.ScoringRun;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+import javax.sql.DataSource;
+
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Scheduled job for calculating league scores
@@ -26,12 +46,50 @@ import java.util.List;
 public class ScoreCalculationScheduler {
 
     private final ScoreService scoreService;
+    private final ScoringLedgerService scoringLedgerService;
+    private final JobClaimService jobClaimService;
     private final LeagueRepository leagueRepository;
+    private final DataSource dataSource;
+    private final KafkaTemplate<String, ScoreCalculationRequestEvent> scoreCalculationKafkaTemplate;
+
+    // Claimed by the one node that publishes a date's scoring requests in distributed mode
+    private static final String PUBLISH_JOB = "score-calculation-publish";
+
+    // How long a publish claim holds without completing before another node may take it over
+    private static final Duration PUBLISH_LEASE = Duration.ofMinutes(10);
+
+    // Leagues between progress log lines, per partition
+    private static final int PROGRESS_INTERVAL = 50;
+
+    // JDBC connections left for request handling while the job runs
+    private static final int RESERVED_CONNECTIONS = 2;
+
+    // When set, leagues are handed to the scoring consumers over Kafka instead of scored here
+    @Value("${scheduling.score-calculation.distributed:false}")
+    private boolean distributedScoring;
+
+    // Worker count (0 = one per CPU); always capped by the JDBC pool
+    @Value("${scheduling.score-calculation.parallelism:0}")
+    private int parallelism;
+
+    // When set, StatIngestionScheduler adjusts scored leagues from each night's stat deltas, and leagues
+    // those deltas fully cover are skipped here; every other league is still fully rescored
+    @Value("${scheduling.score-calculation.incremental:false}")
+    private boolean incrementalScoring;
 
     /**
      * Calculate scores for all active leagues once per day
      * Scheduled to run at 2 AM UTC (configurable via properties)
      *
+     * Leagues already scored today are looked up in the scoring_runs ledger in one query and skipped,
+     * so re-running the job after a crash resumes with the leagues that did not complete.
+     * The rest are split into partitions scored in parallel, one worker per partition and one
+     * transaction per league. Workers are capped below the JDBC pool size so the job can never
+     * starve request threads of connections. In distributed mode the job only publishes one
+     * request per league and the scoring consumers across the cluster do the work; every node
+     * schedules the job, but only the node that claims the date in job_claims publishes (see
+     * {@link #retryDistributedPublish()} for publishes that fail or never finish).
+     *
      * Cron format: second minute hour day month weekday
      * "0 0 2 * * ?" = 2:00 AM every day
      */
@@ -40,40 +98,229 @@ public class ScoreCalculationScheduler {
         log.info("Starting daily score calculation job at {}", LocalDateTime.now());
 
         try {
-            // Get all active leagues
-            List<League> leagues = leagueRepository.findAll();
-            log.info("Found {} leagues to calculate scores for", leagues.size());
+            LocalDate runDate = LocalDate.now();
+            if (distributedScoring) {
+                publishIfClaimed(runDate);
+                return;
+            }
 
-            int successCount = 0;
-            int errorCount = 0;
+            List<League> leagues = leaguesDue(leagueRepository.findAll(), runDate);
+            if (leagues.isEmpty()) {
+                return;
+            }
 
-            for (League league : leagues) {
-                try {
-                    // Check if scores already calculated today
-                    if (scoreService.scoresCalculatedToday(league.getId())) {
-                        log.debug("Scores already calculated today for league: {}", league.getName());
-                        continue;
-                    }
+            int workers = Math.max(1, Math.min(resolveParallelism(), leagues.size()));
+            log.info("Found {} leagues to calculate scores for ({} partitions)", leagues.size(), workers);
 
-                    // Calculate scores for this league
-                    scoreService.calculateLeagueScores(league.getId());
-                    successCount++;
+            // One run for every league, so each drafted player is scored once
+            ScoringRun run = scoreService.startScoringRun(runDate);
 
-                    log.info("Successfully calculated scores for league: {}", league.getName());
+            List<List<League>> partitions = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                partitions.add(new ArrayList<>());
+            }
+            for (int i = 0; i < leagues.size(); i++) {
+                partitions.get(i % workers).add(leagues.get(i));
+            }
 
-                } catch (Exception e) {
-                    errorCount++;
-                    log.error("Error calculating scores for league: {}", league.getName(), e);
+            int[] totals = new int[2];
+            if (workers == 1) {
+                accumulate(totals, scorePartition(1, workers, partitions.get(0), run));
+            } else {
+                ExecutorService executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("score-calculation-"));
+                try {
+                    List<Future<int[]>> results = new ArrayList<>(workers);
+                    for (int i = 0; i < workers; i++) {
+                        int partition = i + 1;
+                        List<League> partitionLeagues = partitions.get(i);
+                        results.add(executor.submit(() -> scorePartition(partition, workers, partitionLeagues, run)));
+                    }
+                    for (Future<int[]> result : results) {
+                        accumulate(totals, result.get());
+                    }
+                } finally {
+                    executor.shutdownNow();
                 }
             }
 
-            log.info("Completed daily score calculation: {} successful, {} failed", successCount, errorCount);
+            log.info("Completed daily score calculation: {} successful, {} failed ({} players scored for {} picks)",
+                    totals[0], totals[1], run.playersScored(), run.pickLookups());
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Daily score calculation interrupted", e);
         } catch (Exception e) {
             log.error("Fatal error in score calculation scheduler", e);
         }
     }
 
+    /**
+     * Retry a distributed publish that failed or whose node died partway through
+     * A failed publish releases its claim and a dead node's claim lapses after the lease, so whichever
+     * node ticks next claims the date and re-publishes the leagues the ledger does not show as scored.
+     * Once a publish has completed, every later tick loses the claim and does nothing.
+     */
+    @Scheduled(cron = "${scheduling.score-calculation.retry-cron:0 */15 2-5 * * ?}")
+    public void retryDistributedPublish() {
+        if (!distributedScoring) {
+            return;
+        }
+        try {
+            publishIfClaimed(LocalDate.now());
+        } catch (Exception e) {
+            log.error("Error retrying score calculation publish", e);
+        }
+    }
+
+    /**
+     * Publish a date's scoring requests if this node wins the date's claim
+     * The claim completes only once every send is acknowledged; a failed publish releases it for a retry
+     */
+    private void publishIfClaimed(LocalDate runDate) {
+        if (!jobClaimService.tryClaim(PUBLISH_JOB, runDate, PUBLISH_LEASE)) {
+            return;
+        }
+        try {
+            // Scoring consumers on every node pick the leagues up from the topic
+            publishScoringRequests(leaguesDue(leagueRepository.findAll(), runDate), runDate);
+        } catch (RuntimeException e) {
+            try {
+                jobClaimService.release(PUBLISH_JOB, runDate);
+            } catch (RuntimeException releaseError) {
+                e.addSuppressed(releaseError);
+            }
+            throw e;
+        }
+        jobClaimService.complete(PUBLISH_JOB, runDate);
+    }
+
+    /**
+     * Leagues still to be scored for a run date: not completed in the ledger and, in incremental
+     * mode, not kept current by the stat deltas applied since their last full scoring
+     */
+    private List<League> leaguesDue(List<League> leagues, LocalDate runDate) {
+        Set<Long> completed = scoringLedgerService.completedLeagueIds(runDate);
+        Set<Long> current = incrementalScoring ? scoreService.incrementallyCurrentLeagueIds(runDate) : Set.of();
+        List<League> due = leagues.stream()
+                .filter(league -> !completed.contains(league.getId()) && !current.contains(league.getId()))
+                .toList();
+        if (due.size() < leagues.size()) {
+            log.info("{} of {} leagues need scoring for {} ({} already scored, {} kept current incrementally)",
+                    due.size(), leagues.size(), runDate, completed.size(), current.size());
+        }
+        return due;
+    }
+
+    /**
+     * Score one partition of leagues serially, logging progress as it goes
+     * @return Success and error counts
+     */
+    private int[] scorePartition(int partition, int partitions, List<League> leagues, ScoringRun run) {
+        int successCount = 0;
+        int errorCount = 0;
+        int processed = 0;
+
+        for (League league : leagues) {
+            try {
+                scoreLeague(league.getId(), league.getName(), run);
+                successCount++;
+            } catch (Exception e) {
+                errorCount++;
+                log.error("Error calculating scores for league: {}", league.getName(), e);
+            }
+
+            processed++;
+            if (processed % PROGRESS_INTERVAL == 0 && processed < leagues.size()) {
+                log.info("Score calculation partition {}/{}: {}/{} leagues processed ({} failed)",
+                        partition, partitions, processed, leagues.size(), errorCount);
+            }
+        }
+
+        log.info("Score calculation partition {}/{} finished: {} leagues, {} calculated, {} failed",
+                partition, partitions, leagues.size(), successCount, errorCount);
+        return new int[] {successCount, errorCount};
+    }
+
+    /**
+     * Calculate a league's scores unless they are already current
+     * Used by the distributed scoring consumers, which receive leagues one at a time (the publisher
+     * has already left out leagues kept current incrementally)
+     * @param leagueId The league ID
+     * @param leagueName The league name (for logging)
+     * @param run The scoring run the league belongs to
+     * @return true if scores were calculated
+     */
+    public boolean scoreLeagueIfDue(Long leagueId, String leagueName, ScoringRun run) {
+        if (scoringLedgerService.isCompleted(leagueId, run.getStatsDate())) {
+            log.debug("Scores already calculated today for league: {}", leagueName);
+            return false;
+        }
+
+        scoreLeague(leagueId, leagueName, run);
+        return true;
+    }
+
+    /**
+     * Calculate a league's scores (in its own transaction), recording the attempt in the ledger
+     */
+    private void scoreLeague(Long leagueId, String leagueName, ScoringRun run) {
+        scoringLedgerService.markStarted(leagueId, run.getStatsDate(), run.getRunId());
+        try {
+            scoreService.calculateLeagueScores(leagueId, run);
+        } catch (RuntimeException e) {
+            try {
+                scoringLedgerService.markFailed(leagueId, run.getStatsDate(), e);
+            } catch (RuntimeException ledgerError) {
+                e.addSuppressed(ledgerError);
+            }
+            throw e;
+        }
+        log.info("Successfully calculated scores for league: {}", leagueName);
+    }
+
+    /**
+     * Publish one scoring request per league to the score-calculation-requests topic
+     * Keyed by league ID, so duplicate requests for a league (e.g. a manual re-publish) are consumed
+     * in order by one worker, and all but the first find the scores already current. The run ID is
+     * derived from the stats date, so every request for a date shares one scoring run per node.
+     */
+    private void publishScoringRequests(List<League> leagues, LocalDate statsDate) {
+        String runId = ScoringRun.idFor(statsDate);
+        List<CompletableFuture<?>> sends = new ArrayList<>(leagues.size());
+        for (League league : leagues) {
+            ScoreCalculationRequestEvent event = ScoreCalculationRequestEvent.builder()
+                    .eventId(UUID.randomUUID().toString())
+                    .eventType("SCORE_CALCULATION_REQUESTED")
+                    .runId(runId)
+                    .leagueId(league.getId())
+                    .leagueName(league.getName())
+                    .statsDate(statsDate)
+                    .requestedAt(LocalDateTime.now())
+                    .build();
+            sends.add(scoreCalculationKafkaTemplate.send(KafkaConfig.SCORE_CALCULATION_TOPIC,
+                    String.valueOf(league.getId()), event));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+        log.info("Published {} score calculation requests for run {}", leagues.size(), runId);
+    }
+
+    /**
+     * Configured worker count, capped below the JDBC pool size
+     */
+    private int resolveParallelism() {
+        int poolCap = Integer.MAX_VALUE;
+        if (dataSource instanceof HikariDataSource hikari) {
+            poolCap = Math.max(1, hikari.getMaximumPoolSize() - RESERVED_CONNECTIONS);
+        }
+        int requested = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return Math.min(requested, poolCap);
+    }
+
+    private static void accumulate(int[] totals, int[] partition) {
+        totals[0] += partition[0];
+        totals[1] += partition[1];
+    }
+
     /**
      * Optional: Recalculate scores for a specific league
      * Can be called manually via endpoint if needed
@@ -0,0 +1,58 @@
+package com.courtvision.scheduler;
+
+import com.courtvision.service.JobClaimService;
+import com.courtvision.service.ScoreHistoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Scheduled job for score history maintenance
+ * Runs after the daily score calculation (default: 4:00 AM UTC)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScoreHistoryScheduler {
+
+    // Claimed by the one node that maintains the history each day
+    private static final String MAINTENANCE_JOB = "score-history-maintenance";
+
+    // How long a maintenance claim holds without completing before another node may take it over
+    private static final Duration MAINTENANCE_LEASE = Duration.ofHours(1);
+
+    private final ScoreHistoryService scoreHistoryService;
+    private final JobClaimService jobClaimService;
+
+    /**
+     * Create upcoming partitions, roll up completed weeks and drop expired partitions
+     * Every node schedules the job; only the node that claims the date in job_claims runs it
+     */
+    @Scheduled(cron = "${scheduling.score-history.cron:0 0 4 * * ?}")
+    public void maintainScoreHistory() {
+        LocalDate runDate = LocalDate.now();
+        try {
+            if (!jobClaimService.tryClaim(MAINTENANCE_JOB, runDate, MAINTENANCE_LEASE)) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("Error claiming score history maintenance", e);
+            return;
+        }
+        try {
+            scoreHistoryService.runMaintenance();
+            jobClaimService.complete(MAINTENANCE_JOB, runDate);
+        } catch (Exception e) {
+            log.error("Error maintaining score history", e);
+            try {
+                jobClaimService.release(MAINTENANCE_JOB, runDate);
+            } catch (Exception releaseError) {
+                log.error("Error releasing score history maintenance claim", releaseError);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.courtvision.scheduler;
+
+import com.courtvision.service.PlayerStatService;
+import com.courtvision.service.ScoreService;
+import com.courtvision.stats.StatUpdate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Scheduled job for ingesting the previous day's box scores
+ * Runs ahead of the daily score calculation (default: 1:30 AM UTC) so scores see the latest games
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatIngestionScheduler {
+
+    private final PlayerStatService playerStatService;
+    private final ScoreService scoreService;
+
+    @Value("${scheduling.score-calculation.incremental:false}")
+    private boolean incrementalScoring;
+
+    /**
+     * Ingest yesterday's box scores
+     * Re-ingesting a day replaces its lines, so late stat corrections are picked up on the next run.
+     * In incremental mode the rosters holding players whose stats changed are rescored right away,
+     * once per date across the cluster. A failed fetch applies nothing, so the daily job falls back
+     * to fully rescoring the leagues that date's deltas would have covered. Days a backfill missed are
+     * retried first; while any were missing the deltas are not applied either, since they were taken
+     * against an incomplete season.
+     */
+    @Scheduled(cron = "${scheduling.stat-ingestion.cron:0 30 1 * * ?}")
+    public void ingestYesterday() {
+        LocalDate date = LocalDate.now().minusDays(1);
+        try {
+            int missedDays = playerStatService.retryMissedDates();
+            StatUpdate update = playerStatService.ingestDay(date);
+            if (incrementalScoring) {
+                if (missedDays > 0) {
+                    log.error("Skipping incremental scoring for {}: {} earlier days were missing from the stat store ({} still missing)",
+                            date, missedDays, playerStatService.getMissedDates().size());
+                } else {
+                    scoreService.applyStatUpdate(update, date);
+                }
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.info("Stat deltas for {} already applied by another node", date);
+        } catch (Exception e) {
+            log.error("Error ingesting box scores for {}", date, e);
+        }
+    }
+}
@@ -7,8 +7,8 @@ import com.courtvision.entity.ScoreCalculation;
 import com.courtvision.entity.TransactionStatus;
 import com.courtvision.kafka.WinnerAnnouncementEvent;
 import com.courtvision.repository.LeagueRepository;
+import com.courtvision.repository.LeagueScoreboardRepository;
 import com.courtvision.repository.LeagueWinnerRepository;
-import com.courtvision.repository.ScoreCalculationRepository;
 import com.courtvision.service.SolanaOracleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,7 +35,7 @@ public class WinnerAnnouncementScheduler {
 
     private final LeagueRepository leagueRepository;
     private final LeagueWinnerRepository leagueWinnerRepository;
-    private final ScoreCalculationRepository scoreCalculationRepository;
+    private final LeagueScoreboardRepository leagueScoreboardRepository;
     private final SolanaOracleService solanaOracleService;
     private final KafkaTemplate<String, WinnerAnnouncementEvent> kafkaTemplate;
 
@@ -69,7 +69,7 @@ public class WinnerAnnouncementScheduler {
                     }
 
                     // Get latest scores for league (ordered by score descending)
-                    List<ScoreCalculation> leagueScores = scoreCalculationRepository.findLatestLeagueScoresOrdered(league.getId());
+                    List<ScoreCalculation> leagueScores = leagueScoreboardRepository.findCurrentScoresOrdered(league.getId());
 
                     if (leagueScores.isEmpty()) {
                         log.warn("No scores found for league: {}", league.getName());
@@ -107,7 +107,7 @@ public class WinnerAnnouncementScheduler {
                 .orElseThrow(() -> new IllegalArgumentException("League not found: " + leagueId));
 
             // Get latest scores for league
-            List<ScoreCalculation> leagueScores = scoreCalculationRepository.findLatestLeagueScoresOrdered(leagueId);
+            List<ScoreCalculation> leagueScores = leagueScoreboardRepository.findCurrentScoresOrdered(leagueId);
 
             if (leagueScores.isEmpty()) {
                 throw new IllegalArgumentException("No scores found for league: " + leagueId);
@@ -143,30 +143,26 @@ public class DraftService {
             throw new IllegalArgumentException("Player name is required");
         }
 
-        // Validate player exists in NBA API (optional - only if API is available)
-        try {
-            if (!nbaPlayerService.playerExists(request.getPlayerName())) {
-                log.warn("Player not found in NBA API: {}", request.getPlayerName());
-                // Allow the pick anyway - player might be in API but not found due to API issues
-                // This is a warning, not an error
-            }
-        } catch (Exception e) {
-            log.warn("Error validating player with NBA API: {}", e.getMessage());
-            // Don't fail the pick if API is unavailable - proceed anyway
-        }
+        // Resolve the player to a catalog entry so scoring never has to guess from the name
+        NBAPlayerDTO player = resolvePickedPlayer(request);
+        String playerName = player != null ? player.getFullName() : request.getPlayerName().trim();
+        String nbaPlayerId = player != null ? player.getPlayerId() : request.getNbaPlayerId();
 
         // Check if player already drafted
-        if (draftPickRepository.existsByDraftIdAndPlayerName(draftId, request.getPlayerName())) {
-            throw new IllegalArgumentException("Player already drafted: " + request.getPlayerName());
+        if (draftPickRepository.existsByDraftIdAndPlayerName(draftId, playerName)
+                || (nbaPlayerId != null && draftPickRepository.existsByDraftIdAndNbaPlayerId(draftId, nbaPlayerId))) {
+            throw new IllegalArgumentException("Player already drafted: " + playerName);
         }
 
         // Create draft pick
         DraftPick pick = DraftPick.builder()
                 .draft(draft)
                 .picker(picker)
-                .playerName(request.getPlayerName())
-                .nbaPlayerId(request.getNbaPlayerId())
-                .playerPosition(request.getPlayerPosition())
+                .playerName(playerName)
+                .nbaPlayerId(nbaPlayerId)
+                .playerPosition(request.getPlayerPosition() != null || player == null
+                        ? request.getPlayerPosition()
+                        : player.getPosition())
                 .roundNumber(draft.getCurrentRound())
                 .pickNumber(draft.getCurrentPickOrder())
                 .build();
@@ -187,11 +183,52 @@ public class DraftService {
         }
 
         draftRepository.save(draft);
-        log.info("Pick made by {} in draft {}: {}", picker.getUsername(), draftId, request.getPlayerName());
+        log.info("Pick made by {} in draft {}: {} ({})", picker.getUsername(), draftId, playerName, nbaPlayerId);
 
         return DraftPickResponse.fromEntity(pick);
     }
 
+    /**
+     * Resolve the player a pick refers to
+     * An explicit NBA player ID wins; otherwise the name is fuzzy-matched against the catalog and
+     * must identify exactly one player. Only when no catalog is available at all is an unresolved
+     * name accepted as free text.
+     * @return The picked player, or null if the catalog is unavailable
+     * @throws IllegalArgumentException if the name is unknown or ambiguous
+     */
+    private NBAPlayerDTO resolvePickedPlayer(MakeDraftPickRequest request) {
+        try {
+            if (request.getNbaPlayerId() != null && !request.getNbaPlayerId().isBlank()) {
+                NBAPlayerDTO byId = nbaPlayerService.getPlayerById(request.getNbaPlayerId());
+                if (byId != null) {
+                    return byId;
+                }
+            }
+
+            NBAPlayerDTO resolved = nbaPlayerService.resolvePlayer(request.getPlayerName());
+            if (resolved != null) {
+                return resolved;
+            }
+
+            if (nbaPlayerService.getCatalog().isEmpty()) {
+                log.warn("Player catalog unavailable; accepting unresolved pick: {}", request.getPlayerName());
+                return null;
+            }
+        } catch (Exception e) {
+            log.warn("Error resolving player {}: {}", request.getPlayerName(), e.getMessage());
+            return null;
+        }
+
+        List<String> suggestions = nbaPlayerService.matchPlayers(request.getPlayerName(), 5).stream()
+                .map(match -> match.getPlayer().getFullName())
+                .collect(Collectors.toList());
+        if (suggestions.isEmpty()) {
+            throw new IllegalArgumentException("Player not found: " + request.getPlayerName());
+        }
+        throw new IllegalArgumentException("Player name '" + request.getPlayerName()
+                + "' does not identify a single player. Did you mean: " + String.join(", ", suggestions) + "?");
+    }
+
     /**
      * Get all picks for a draft
      * @param draftId The draft ID
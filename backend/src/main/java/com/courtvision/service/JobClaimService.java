@@ -0,0 +1,124 @@
+package com.courtvision.service;
+
+import com.courtvision.entity.JobClaim;
+import com.courtvision.repository.JobClaimRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Service electing one node per date for jobs every node schedules
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobClaimService {
+
+    private static final String NODE = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final JobClaimRepository jobClaimRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Claim a job for a date, in its own transaction
+     * The claim is held until it is completed or released, or until the lease runs out without either;
+     * call {@link #complete} once the job's work is done and {@link #release} if it fails
+     * @param jobName The job
+     * @param runDate The date the job runs for
+     * @param lease How long the claim holds before another node may take it over
+     * @return true if this node won the claim and should run the job
+     */
+    public boolean tryClaim(String jobName, LocalDate runDate, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            // A losing insert dooms its transaction, so it gets one of its own rather than the caller's
+            newTransaction().executeWithoutResult(status -> jobClaimRepository.saveAndFlush(JobClaim.builder()
+                    .jobName(jobName)
+                    .runDate(runDate)
+                    .claimedBy(NODE)
+                    .claimedAt(now)
+                    .build()));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            Integer takenOver = newTransaction().execute(status ->
+                    jobClaimRepository.takeOverStale(jobName, runDate, NODE, now, now.minus(lease)));
+            if (takenOver != null && takenOver == 1) {
+                log.warn("Job {} for {} took over a claim not completed within {}", jobName, runDate, lease);
+                return true;
+            }
+            log.info("Job {} for {} already claimed by another node", jobName, runDate);
+            return false;
+        }
+    }
+
+    /**
+     * Restart the lease on this node's uncompleted claim, for jobs that keep running while they hold it
+     * @return true if this node still held the claim; false once another node has taken it over
+     */
+    public boolean renew(String jobName, LocalDate runDate) {
+        Integer renewed = newTransaction().execute(status ->
+                jobClaimRepository.renew(jobName, runDate, NODE, LocalDateTime.now()));
+        return renewed != null && renewed == 1;
+    }
+
+    /**
+     * Mark this node's claim completed, so it holds for good
+     */
+    public void complete(String jobName, LocalDate runDate) {
+        Integer completed = newTransaction().execute(status ->
+                jobClaimRepository.markCompleted(jobName, runDate, NODE, LocalDateTime.now()));
+        if (completed == null || completed == 0) {
+            log.warn("Job {} for {} completed after its claim was taken over by another node", jobName, runDate);
+        }
+    }
+
+    /**
+     * Give up this node's uncompleted claim, so the job can be claimed again for the date
+     */
+    public void release(String jobName, LocalDate runDate) {
+        newTransaction().executeWithoutResult(status -> jobClaimRepository.deleteUncompleted(jobName, runDate, NODE));
+        log.info("Released claim on job {} for {}", jobName, runDate);
+    }
+
+    /**
+     * Claim a job for a date within the caller's transaction, so the claim commits only with the job's work
+     * @throws org.springframework.dao.DataIntegrityViolationException if the date is already claimed
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void claimWith(String jobName, LocalDate runDate) {
+        LocalDateTime now = LocalDateTime.now();
+        jobClaimRepository.saveAndFlush(JobClaim.builder()
+                .jobName(jobName)
+                .runDate(runDate)
+                .claimedBy(NODE)
+                .claimedAt(now)
+                .completedAt(now)
+                .build());
+    }
+
+    /**
+     * Dates a job was claimed for within a range (inclusive)
+     */
+    @Transactional(readOnly = true)
+    public Set<LocalDate> claimedDates(String jobName, LocalDate from, LocalDate to) {
+        return jobClaimRepository.findRunDates(jobName, from, to);
+    }
+
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transaction;
+    }
+}
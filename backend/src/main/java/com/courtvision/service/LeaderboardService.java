@@ -0,0 +1,157 @@
+package com.courtvision.service;
+
+import com.courtvision.dto.LeagueScoreboardSnapshotEvent;
+import com.courtvision.dto.ScoreCalculationDTO;
+import com.courtvision.entity.ScoreCalculation;
+import com.courtvision.leaderboard.LeagueLeaderboard;
+import com.courtvision.repository.LeagueScoreboardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Service holding each league's ranking in memory
+ * Loaded from league_scoreboard_current once the application is up, then kept current from newly
+ * committed scores and from the scoreboard snapshots other nodes publish; members who leave a league
+ * are removed here and, through the next snapshot, on every other node. Scoreboard and rank reads
+ * are served from memory; until the initial load finishes they fall back to the projection.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    // League IDs per load query (keeps the IN list within driver limits)
+    private static final int LOAD_BATCH = 1000;
+
+    private final LeagueScoreboardRepository leagueScoreboardRepository;
+
+    private final Map<Long, LeagueLeaderboard> leaderboards = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * Load every league's ranking from the scoreboard projection
+     * Runs after the projection itself is rebuilt; scores applied meanwhile are kept when newer
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @Transactional(readOnly = true)
+    public void loadLeaderboards() {
+        List<Long> leagueIds = new ArrayList<>(leagueScoreboardRepository.findScoredLeagueIds());
+        int scores = 0;
+        for (int from = 0; from < leagueIds.size(); from += LOAD_BATCH) {
+            List<Long> batch = leagueIds.subList(from, Math.min(leagueIds.size(), from + LOAD_BATCH));
+            List<ScoreCalculationDTO> current = leagueScoreboardRepository.findCurrentScoresForLeagues(batch).stream()
+                    .map(ScoreCalculationDTO::fromEntity)
+                    .toList();
+            apply(current);
+            scores += current.size();
+        }
+        loaded = true;
+        log.info("Loaded leaderboards for {} leagues ({} scores)", leagueIds.size(), scores);
+    }
+
+    /**
+     * Apply newly committed scores to their leagues' rankings
+     * @param scores Scores to apply; ones no newer than the score held for the user are ignored
+     */
+    public void apply(Collection<ScoreCalculationDTO> scores) {
+        for (ScoreCalculationDTO score : scores) {
+            leaderboards.computeIfAbsent(score.getLeagueId(), id -> new LeagueLeaderboard()).update(score);
+        }
+    }
+
+    /**
+     * Apply a league scoreboard snapshot (possibly published by another node)
+     * A snapshot holds the whole league, so users missing from it have left and are removed,
+     * unless this node holds a score for them newer than the snapshot
+     */
+    public void apply(LeagueScoreboardSnapshotEvent event) {
+        if (event.getScores() == null) {
+            return;
+        }
+        LeagueLeaderboard leaderboard = leaderboards.get(event.getLeagueId());
+        if (leaderboard != null && event.getTimestamp() != null) {
+            Set<Long> userIds = event.getScores().stream()
+                    .map(LeagueScoreboardSnapshotEvent.RankedScore::getUserId)
+                    .collect(Collectors.toSet());
+            int removed = leaderboard.retain(userIds, event.getTimestamp());
+            if (removed > 0) {
+                log.debug("Removed {} departed users from league {} leaderboard", removed, event.getLeagueId());
+            }
+        }
+        apply(event.getScores().stream()
+                .map(score -> ScoreCalculationDTO.builder()
+                        .leagueId(event.getLeagueId())
+                        .leagueName(event.getLeagueName())
+                        .userId(score.getUserId())
+                        .username(score.getUsername())
+                        .totalScore(score.getTotalScore())
+                        .averageScore(score.getAverageScore())
+                        .playersEvaluated(score.getPlayersEvaluated())
+                        .calculatedAt(score.getCalculatedAt())
+                        .build())
+                .toList());
+    }
+
+    /**
+     * Remove a user from a league's ranking (e.g. when they leave the league)
+     */
+    public void remove(Long leagueId, Long userId) {
+        LeagueLeaderboard leaderboard = leaderboards.get(leagueId);
+        if (leaderboard != null) {
+            leaderboard.remove(userId);
+        }
+    }
+
+    /**
+     * A window of a league's ranking, highest first, with ranks set
+     * @param leagueId The league ID
+     * @param offset Scores to skip from the top
+     * @param limit Maximum scores returned
+     */
+    public List<ScoreCalculationDTO> ranking(Long leagueId, int offset, int limit) {
+        if (!loaded) {
+            List<ScoreCalculationDTO> ranking = rankingFromProjection(leagueId);
+            return ranking.subList(Math.min(ranking.size(), Math.max(0, offset)),
+                    (int) Math.min(ranking.size(), (long) Math.max(0, offset) + Math.max(0, limit)));
+        }
+        LeagueLeaderboard leaderboard = leaderboards.get(leagueId);
+        return leaderboard != null ? leaderboard.range(offset, limit) : List.of();
+    }
+
+    /**
+     * A user's score in a league with its rank set
+     */
+    public Optional<ScoreCalculationDTO> rankOf(Long leagueId, Long userId) {
+        if (!loaded) {
+            return rankingFromProjection(leagueId).stream()
+                    .filter(score -> score.getUserId().equals(userId))
+                    .findFirst();
+        }
+        LeagueLeaderboard leaderboard = leaderboards.get(leagueId);
+        return Optional.ofNullable(leaderboard != null ? leaderboard.get(userId) : null);
+    }
+
+    private List<ScoreCalculationDTO> rankingFromProjection(Long leagueId) {
+        List<ScoreCalculationDTO> ranking = new ArrayList<>();
+        for (ScoreCalculation score : leagueScoreboardRepository.findCurrentScoresOrdered(leagueId)) {
+            ranking.add(ScoreCalculationDTO.fromEntity(score).toBuilder().rank(ranking.size() + 1).build());
+        }
+        return ranking;
+    }
+}
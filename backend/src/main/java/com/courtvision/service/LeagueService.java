@@ -31,6 +31,9 @@ public class LeagueService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ScoreService scoreService;
+
     /**
      * Create a new league
      * Only the authenticated user (creator) can create
@@ -51,6 +54,10 @@ public class LeagueService {
             throw new IllegalArgumentException("League size must be between 2 and 8 players");
         }
 
+        if (request.getScoring() != null) {
+            request.getScoring().validate();
+        }
+
         // Check if league name already exists for this creator
         if (leagueRepository.existsByNameAndCreatorId(request.getName(), creator.getId())) {
             throw new IllegalArgumentException("You already have a league with this name");
@@ -62,6 +69,7 @@ public class LeagueService {
                 .description(request.getDescription())
                 .creator(creator)
                 .maxPlayers(request.getMaxPlayers())
+                .scoringProfile(request.getScoring())
                 .status(League.LeagueStatus.ACTIVE)
                 .build();
 
@@ -336,8 +344,9 @@ public class LeagueService {
             throw new IllegalArgumentException("Cannot remove the league creator");
         }
 
-        // Remove member
+        // Remove member, along with their place on the league scoreboard
         leagueMemberRepository.delete(member);
+        scoreService.removeFromScoreboard(league, userId);
 
         log.info("Member {} removed from league {} (ID: {})",
                  userToRemove.getUsername(), league.getName(), league.getId());
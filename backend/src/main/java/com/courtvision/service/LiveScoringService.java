@@ -0,0 +1,286 @@
+package com.courtvision.service;
+
+import com.courtvision.catalog.PlayerCatalog;
+import com.courtvision.config.KafkaConfig;
+import com.courtvision.dto.LeagueScoreboardSnapshotEvent;
+import com.courtvision.dto.NBAPlayerDTO;
+import com.courtvision.dto.RosterSlot;
+import com.courtvision.dto.ScoreCalculationDTO;
+import com.courtvision.entity.ScoreCalculation;
+import com.courtvision.leaderboard.LeagueLeaderboard;
+import com.courtvision.repository.DraftPickRepository;
+import com.courtvision.repository.LeagueScoreboardRepository;
+import com.courtvision.stats.ScoringWeights;
+import com.courtvision.stats.Stat;
+import com.courtvision.stats.StatLine;
+import com.courtvision.stats.StatUpdate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Service for live intraday scoring while games are in progress
+ *
+ * Each poll fetches the game day's box scores so far and diffs every player's line against the
+ * previous poll. Changed players are mapped to rosters through the reverse index on draft picks,
+ * and each affected league's in-memory totals (its persisted scoreboard plus the day's live points)
+ * move by the same delta rule as incremental scoring ({@link ScoreService#calculateScoreDelta}).
+ * Only leagues where a total moved are published, each as its full ranked standings with the live
+ * totals overlaid, as a live snapshot on the scoreboard topic; every node relays those to its own
+ * WebSocket clients. Only the node holding the live-scoring claim polls (see LiveScoringScheduler).
+ * Nothing is written to the score history: the nightly ingest and scoring persist the final lines,
+ * and the live state is dropped when the game day changes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LiveScoringService {
+
+    private static final int STAT_COUNT = Stat.values().length;
+
+    // IDs per IN-list query (keeps the list within driver limits)
+    private static final int QUERY_BATCH = 1000;
+
+    private final PlayerStatService playerStatService;
+    private final DraftPickRepository draftPickRepository;
+    private final LeagueScoreboardRepository leagueScoreboardRepository;
+    private final NBAPlayerService nbaPlayerService;
+    private final ScoreService scoreService;
+    private final KafkaTemplate<String, LeagueScoreboardSnapshotEvent> leagueScoreboardKafkaTemplate;
+
+    private LocalDate gameDate;
+
+    // Each player's line for the game day as of the last poll
+    private final Map<String, long[]> linesByPlayer = new HashMap<>();
+
+    // Leagues touched so far today, loaded from the scoreboard on first touch
+    private final Map<Long, LiveLeague> leagues = new HashMap<>();
+
+    /**
+     * Poll a game day's box scores and publish the standings that changed
+     * @param date The game date
+     * @return Number of user scores that moved
+     */
+    public synchronized int poll(LocalDate date) {
+        if (!date.equals(gameDate)) {
+            gameDate = date;
+            linesByPlayer.clear();
+            leagues.clear();
+        }
+        List<StatLine> lines = playerStatService.fetchBoxScores(date);
+        if (lines == null) {
+            return 0;
+        }
+
+        Map<String, StatUpdate.PlayerDelta> deltas = diffLines(date, lines);
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        // League -> user -> changed players on that user's roster
+        Map<Long, Map<Long, List<String>>> changedRosters = new HashMap<>();
+        List<String> changedPlayers = new ArrayList<>(deltas.keySet());
+        for (int from = 0; from < changedPlayers.size(); from += QUERY_BATCH) {
+            List<String> batch = changedPlayers.subList(from, Math.min(changedPlayers.size(), from + QUERY_BATCH));
+            for (RosterSlot slot : draftPickRepository.findRosterSlotsByNbaPlayerIds(batch)) {
+                changedRosters.computeIfAbsent(slot.getLeagueId(), id -> new HashMap<>())
+                        .computeIfAbsent(slot.getUserId(), id -> new ArrayList<>())
+                        .add(slot.getNbaPlayerId());
+            }
+        }
+        loadLeagues(new ArrayList<>(changedRosters.keySet()));
+        PlayerCatalog catalog = nbaPlayerService.getCatalog();
+
+        LocalDateTime now = LocalDateTime.now();
+        int pushed = 0;
+        for (Map.Entry<Long, Map<Long, List<String>>> entry : changedRosters.entrySet()) {
+            LiveLeague league = leagues.get(entry.getKey());
+            int changed = 0;
+            for (Map.Entry<Long, List<String>> roster : entry.getValue().entrySet()) {
+                LiveScore score = league.scoresByUser.get(roster.getKey());
+                if (score == null) {
+                    continue;
+                }
+                double points = 0.0;
+                for (String playerId : roster.getValue()) {
+                    NBAPlayerDTO player = catalog.findById(playerId);
+                    if (player != null) {
+                        // Players missing from the catalog score 0 in the full calculation too
+                        points += scoreService.calculateScoreDelta(league.weights, deltas.get(playerId), player);
+                    }
+                }
+                if (points == 0.0) {
+                    continue;
+                }
+                score.total += points;
+                league.standings.update(score.toDto(entry.getKey(), league.name, now));
+                changed++;
+            }
+            if (changed > 0) {
+                publishStandings(entry.getKey(), league.name, league.standings.all());
+                pushed += changed;
+            }
+        }
+
+        log.debug("Live scoring for {}: {} players changed, {} scores moved", date, deltas.size(), pushed);
+        return pushed;
+    }
+
+    /**
+     * Per-player stat deltas since the last poll, recording the new lines
+     * A player's first line of the day adds a game to their stored season, which the delta carries so
+     * the basic score is swapped out as in the nightly scoring. A player missing from a later poll keeps
+     * their last line, so a feed hiccup does not swing scores
+     */
+    private Map<String, StatUpdate.PlayerDelta> diffLines(LocalDate date, List<StatLine> lines) {
+        Map<String, StatUpdate.PlayerDelta> deltas = new HashMap<>();
+        for (StatLine line : lines) {
+            if (line.getPlayerId() == null) {
+                continue;
+            }
+            long[] values = new long[STAT_COUNT];
+            for (Stat stat : Stat.values()) {
+                values[stat.ordinal()] = line.get(stat);
+            }
+            long[] previous = linesByPlayer.put(line.getPlayerId(), values);
+
+            long[] delta = new long[STAT_COUNT];
+            boolean changed = previous == null;
+            for (int stat = 0; stat < STAT_COUNT; stat++) {
+                delta[stat] = values[stat] - (previous != null ? previous[stat] : 0);
+                changed |= delta[stat] != 0;
+            }
+            if (changed) {
+                int storedGames = playerStatService.getStatStore()
+                        .gamesPlayed(line.getPlayerId(), playerStatService.getStatStore().getSeasonStart(), date.minusDays(1));
+                int gamesBefore = previous == null ? storedGames : storedGames + 1;
+                deltas.put(line.getPlayerId(), new StatUpdate.PlayerDelta(delta, gamesBefore, storedGames + 1));
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * Send a league's live standings to every node's WebSocket clients through the scoreboard topic
+     */
+    private void publishStandings(Long leagueId, String leagueName, List<ScoreCalculationDTO> standings) {
+        List<LeagueScoreboardSnapshotEvent.RankedScore> ranking = standings.stream()
+                .map(score -> LeagueScoreboardSnapshotEvent.RankedScore.builder()
+                        .rank(score.getRank())
+                        .userId(score.getUserId())
+                        .username(score.getUsername())
+                        .totalScore(score.getTotalScore())
+                        .averageScore(score.getAverageScore())
+                        .playersEvaluated(score.getPlayersEvaluated())
+                        .calculatedAt(score.getCalculatedAt())
+                        .build())
+                .toList();
+        LeagueScoreboardSnapshotEvent event = LeagueScoreboardSnapshotEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType(LeagueScoreboardSnapshotEvent.LIVE_SNAPSHOT)
+                .leagueId(leagueId)
+                .leagueName(leagueName)
+                .scores(ranking)
+                .timestamp(LocalDateTime.now())
+                .build();
+        try {
+            leagueScoreboardKafkaTemplate.send(KafkaConfig.LEAGUE_SCOREBOARD_TOPIC, String.valueOf(leagueId), event)
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.warn("Failed to publish live standings for league {}", leagueId, e);
+                        }
+                    });
+        } catch (Exception e) {
+            log.warn("Failed to publish live standings for league {}", leagueId, e);
+        }
+    }
+
+    /**
+     * Load the persisted scoreboard of every league not yet touched today
+     * Leagues without scores are remembered as empty, so they are not looked up again
+     */
+    private void loadLeagues(List<Long> leagueIds) {
+        List<Long> missing = leagueIds.stream().filter(id -> !leagues.containsKey(id)).toList();
+        for (int from = 0; from < missing.size(); from += QUERY_BATCH) {
+            List<Long> batch = missing.subList(from, Math.min(missing.size(), from + QUERY_BATCH));
+            Map<Long, List<ScoreCalculation>> scoresByLeague = leagueScoreboardRepository.findCurrentScoresForLeagues(batch)
+                    .stream()
+                    .collect(Collectors.groupingBy(score -> score.getLeague().getId()));
+            for (Long leagueId : batch) {
+                leagues.put(leagueId, LiveLeague.of(scoresByLeague.getOrDefault(leagueId, List.of())));
+            }
+        }
+    }
+
+    /**
+     * A league's live standings: scoring weights, each user's running total and the ranking of those totals
+     */
+    private static final class LiveLeague {
+
+        private final String name;
+        private final ScoringWeights weights;
+        private final Map<Long, LiveScore> scoresByUser;
+        private final LeagueLeaderboard standings = new LeagueLeaderboard();
+
+        private LiveLeague(String name, ScoringWeights weights, Map<Long, LiveScore> scoresByUser) {
+            this.name = name;
+            this.weights = weights;
+            this.scoresByUser = scoresByUser;
+        }
+
+        static LiveLeague of(List<ScoreCalculation> scores) {
+            if (scores.isEmpty()) {
+                return new LiveLeague(null, null, Map.of());
+            }
+            Map<Long, LiveScore> scoresByUser = new HashMap<>();
+            LiveLeague league = new LiveLeague(scores.get(0).getLeague().getName(),
+                    scores.get(0).getLeague().getScoringWeights(), scoresByUser);
+            for (ScoreCalculation score : scores) {
+                scoresByUser.put(score.getUser().getId(), new LiveScore(score));
+                league.standings.update(ScoreCalculationDTO.fromEntity(score));
+            }
+            return league;
+        }
+    }
+
+    /**
+     * One user's running total, starting from their persisted score
+     */
+    private static final class LiveScore {
+
+        private final Long userId;
+        private final String username;
+        private final Integer playersEvaluated;
+        private double total;
+
+        private LiveScore(ScoreCalculation score) {
+            this.userId = score.getUser().getId();
+            this.username = score.getUser().getUsername();
+            this.playersEvaluated = score.getPlayersEvaluated();
+            this.total = score.getTotalScore();
+        }
+
+        ScoreCalculationDTO toDto(Long leagueId, String leagueName, LocalDateTime calculatedAt) {
+            return ScoreCalculationDTO.builder()
+                    .leagueId(leagueId)
+                    .leagueName(leagueName)
+                    .userId(userId)
+                    .username(username)
+                    .totalScore(total)
+                    .averageScore(playersEvaluated == null || playersEvaluated == 0 ? 0.0 : total / playersEvaluated)
+                    .playersEvaluated(playersEvaluated)
+                    .calculatedAt(calculatedAt)
+                    .build();
+        }
+    }
+}
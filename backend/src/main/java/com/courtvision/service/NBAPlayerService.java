@@ -1,18 +1,45 @@
 package com.courtvision.service;
 
+import com.courtvision.catalog.LocalPlayerCsvParser;
+import com.courtvision.catalog.PlayerCatalog;
+import com.courtvision.catalog.PlayerCatalogCache;
+import com.courtvision.catalog.PlayerCatalogSnapshot;
+import com.courtvision.catalog.PlayerMatch;
+import com.courtvision.catalog.SportsBlazePlayerParser;
 import com.courtvision.config.NbaApiConfig;
+import com.courtvision.dto.ApiResponse;
+import com.courtvision.dto.BulkPlayerLookupResponse;
 import com.courtvision.dto.NBAPlayerDTO;
-import com.courtvision.dto.NBAPlayersResponseDTO;
+import com.courtvision.dto.PlayerSuggestionDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
@@ -25,48 +52,330 @@ public class NBAPlayerService {
 
     private final RestTemplate restTemplate;
     private final NbaApiConfig nbaApiConfig;
+    private final ObjectMapper objectMapper;
+    private final ResourceLoader resourceLoader;
 
     /**
-     * Fetch all players from SportsBlaze API
-     * Results are cached for 1 hour
+     * Most IDs and names accepted by one bulk lookup
+     */
+    public static final int MAX_BULK_LOOKUP = 500;
+
+    // Single background thread for catalog refreshes so request threads never wait on the API
+    private final ExecutorService catalogRefreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "nba-catalog-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private PlayerCatalogCache catalogCache;
+    private SportsBlazePlayerParser playerParser;
+
+    // Bundled player list; seeds the cache and backs the API data when it is missing players
+    private PlayerCatalog localCatalog = PlayerCatalog.empty();
+
+    // Validators of the response the current catalog was built from, sent on the next fetch
+    private volatile String catalogETag;
+    private volatile String catalogLastModified;
+
+    @PostConstruct
+    void initCatalogCache() {
+        playerParser = new SportsBlazePlayerParser(objectMapper.getFactory());
+        catalogCache = new PlayerCatalogCache(
+                this::loadCatalog,
+                catalogRefreshExecutor,
+                nbaApiConfig.getCache().getTtl(),
+                nbaApiConfig.getCache().getFailureBackoff(),
+                nbaApiConfig.getCache().getColdWait());
+
+        localCatalog = loadLocalCatalog();
+        PlayerCatalogSnapshot snapshot = loadSnapshot();
+        if (snapshot != null && !snapshot.getCatalog().isEmpty()) {
+            catalogETag = snapshot.getETag();
+            catalogLastModified = snapshot.getLastModified();
+            catalogCache.put(snapshot.getCatalog(), snapshot.getSavedAt());
+        } else {
+            catalogCache.put(localCatalog);
+        }
+    }
+
+    /**
+     * Start loading the catalog as soon as the application is up
+     * Without an API key the bundled list is all there is, so no fetch is attempted
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmCatalog() {
+        if (isApiConfigured()) {
+            catalogCache.refreshAsync();
+        }
+    }
+
+    @PreDestroy
+    void shutdownCatalogRefresh() {
+        catalogRefreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Get all players from the catalog
      */
-    @Cacheable("nbaPlayers")
     public List<NBAPlayerDTO> getAllPlayers() {
+        return getCatalog().getPlayers();
+    }
+
+    /**
+     * Get the indexed player catalog
+     * Returns the last good snapshot and refreshes it in the background once it is older
+     * than the TTL; before the first successful fetch, callers share one in-flight load
+     * for at most nba.api.cache.cold-wait
+     */
+    public PlayerCatalog getCatalog() {
+        return catalogCache.get();
+    }
+
+    /**
+     * Re-fetch the player list in the background
+     * Concurrent callers share a single in-flight fetch
+     * @return Future completing with the catalog in effect after the refresh
+     */
+    public CompletableFuture<PlayerCatalog> refreshCatalog() {
+        return catalogCache.refreshAsync();
+    }
+
+    /**
+     * Fetch all players from SportsBlaze API and index them
+     * The response body is streamed through the parser instead of being bound in one shot.
+     * The request is conditional on the validators of the last good response, so an unchanged
+     * list costs a 304 and the current catalog is kept without re-parsing; the snapshot is then
+     * stamped as fresh, so a restart does not treat the revalidated catalog as expired.
+     * @return The new (or revalidated) catalog, or null if the fetch failed so the cache keeps its last good snapshot
+     */
+    private PlayerCatalog loadCatalog() {
+        if (!isApiConfigured()) {
+            log.debug("No SportsBlaze API key configured; serving the local player list");
+            return localCatalog;
+        }
         try {
             log.info("Fetching all NBA players from SportsBlaze API");
             String url = buildPlayerUrl();
-            NBAPlayersResponseDTO response = restTemplate.getForObject(url, NBAPlayersResponseDTO.class);
-
-            if (response != null && response.getSuccess() && response.getPlayers() != null) {
-                log.info("Successfully fetched {} players from API", response.getPlayers().size());
-                return response.getPlayers();
-            } else {
-                log.warn("API returned unsuccessful response: {}", response != null ? response.getMessage() : "null response");
-                return new ArrayList<>();
-            }
+            return restTemplate.execute(url, HttpMethod.GET, this::addValidators, this::readCatalog);
         } catch (Exception e) {
             log.error("Error fetching NBA players from API", e);
-            return new ArrayList<>();
+            return null;
+        }
+    }
+
+    private void addValidators(ClientHttpRequest request) {
+        PlayerCatalog current = catalogCache.peek();
+        if (current.isEmpty()) {
+            return;
+        }
+        if (catalogETag != null) {
+            request.getHeaders().setIfNoneMatch(catalogETag);
+        }
+        if (catalogLastModified != null) {
+            request.getHeaders().set(HttpHeaders.IF_MODIFIED_SINCE, catalogLastModified);
+        }
+    }
+
+    private PlayerCatalog readCatalog(ClientHttpResponse clientResponse) throws IOException {
+        if (clientResponse.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            PlayerCatalog current = catalogCache.peek();
+            log.info("Player list not modified upstream; keeping {} players", current.size());
+            revalidateSnapshot(current, clientResponse.getHeaders());
+            return current;
+        }
+
+        SportsBlazePlayerParser.Result response = playerParser.parse(clientResponse.getBody());
+        if (!response.isSuccess()) {
+            log.warn("API returned unsuccessful response: {}", response.getMessage());
+            return null;
+        }
+
+        PlayerCatalog catalog = PlayerCatalog.of(response.getPlayers());
+        if (catalog.isEmpty()) {
+            return null;
+        }
+        catalogETag = clientResponse.getHeaders().getETag();
+        catalogLastModified = clientResponse.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED);
+        log.info("Successfully fetched {} players from API", catalog.size());
+        PlayerCatalog merged = catalog.withFallback(localCatalog);
+        saveSnapshot(merged);
+        return merged;
+    }
+
+    /**
+     * Restore the catalog persisted by the last successful fetch (nba.api.cache.snapshot-path)
+     * @return The snapshot, or null if there is none or it cannot be read
+     */
+    private PlayerCatalogSnapshot loadSnapshot() {
+        Path path = snapshotPath();
+        if (path == null || !Files.exists(path)) {
+            return null;
+        }
+        try {
+            long start = System.nanoTime();
+            PlayerCatalogSnapshot snapshot = PlayerCatalogSnapshot.read(path);
+            log.info("Restored {} players from catalog snapshot {} in {} ms",
+                    snapshot.getCatalog().size(), path, (System.nanoTime() - start) / 1_000_000);
+            return snapshot;
+        } catch (Exception e) {
+            log.warn("Ignoring unreadable catalog snapshot {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveSnapshot(PlayerCatalog catalog) {
+        Path path = snapshotPath();
+        if (path == null) {
+            return;
+        }
+        try {
+            PlayerCatalogSnapshot.write(path, catalog, catalogETag, catalogLastModified);
+        } catch (Exception e) {
+            log.warn("Could not write catalog snapshot {}", path, e);
+        }
+    }
+
+    /**
+     * Bring the snapshot up to date after a 304: rewrite it if the response carried new validators,
+     * otherwise just restamp its savedAt
+     */
+    private void revalidateSnapshot(PlayerCatalog current, HttpHeaders headers) {
+        String eTag = headers.getETag();
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        boolean newValidators = (eTag != null && !eTag.equals(catalogETag))
+                || (lastModified != null && !lastModified.equals(catalogLastModified));
+        if (eTag != null) {
+            catalogETag = eTag;
+        }
+        if (lastModified != null) {
+            catalogLastModified = lastModified;
+        }
+
+        Path path = snapshotPath();
+        if (path == null) {
+            return;
+        }
+        if (newValidators || !Files.exists(path)) {
+            saveSnapshot(current);
+            return;
+        }
+        try {
+            PlayerCatalogSnapshot.touch(path);
+        } catch (Exception e) {
+            log.warn("Could not restamp catalog snapshot {}; rewriting it", path, e);
+            saveSnapshot(current);
         }
     }
 
+    private Path snapshotPath() {
+        String location = nbaApiConfig.getCache().getSnapshotPath();
+        return location == null || location.isBlank() ? null : Path.of(location);
+    }
+
+    /**
+     * Load the bundled player list (nba.api.local-catalog)
+     * @return The local catalog, or an empty one if it is disabled or unreadable
+     */
+    private PlayerCatalog loadLocalCatalog() {
+        String location = nbaApiConfig.getLocalCatalog();
+        if (location == null || location.isBlank()) {
+            return PlayerCatalog.empty();
+        }
+
+        Resource resource = resourceLoader.getResource(location);
+        if (!resource.exists()) {
+            log.warn("Local player list not found at {}", location);
+            return PlayerCatalog.empty();
+        }
+        try {
+            PlayerCatalog catalog = PlayerCatalog.of(new LocalPlayerCsvParser().parse(resource.getInputStream()));
+            log.info("Loaded {} players from local player list {}", catalog.size(), location);
+            return catalog;
+        } catch (Exception e) {
+            log.error("Error loading local player list from {}", location, e);
+            return PlayerCatalog.empty();
+        }
+    }
+
+    private boolean isApiConfigured() {
+        return nbaApiConfig.getKey() != null && !nbaApiConfig.getKey().isBlank();
+    }
+
     /**
      * Search players by name (case-insensitive)
+     * Served from the catalog's name index instead of scanning every player
      */
     public List<NBAPlayerDTO> searchPlayersByName(String name) {
         if (name == null || name.trim().isEmpty()) {
             return new ArrayList<>();
         }
 
-        String searchTerm = name.toLowerCase();
-        return getAllPlayers().stream()
-                .filter(player -> player.getFirstName() != null && player.getLastName() != null)
-                .filter(player ->
-                    player.getFirstName().toLowerCase().contains(searchTerm) ||
-                    player.getLastName().toLowerCase().contains(searchTerm) ||
-                    (player.getFirstName() + " " + player.getLastName()).toLowerCase().contains(searchTerm)
-                )
+        return getCatalog().searchByName(name);
+    }
+
+    /**
+     * Autocomplete a partially typed player name
+     * Answered from the catalog's prefix trie; the JSON body for each prefix and limit is encoded
+     * once per catalog version and then served as-is
+     * @param prefix The typed prefix
+     * @param limit Maximum suggestions (capped at PlayerTrie.MAX_SUGGESTIONS)
+     * @return Encoded ApiResponse whose data is a list of PlayerSuggestionDTO
+     */
+    public byte[] autocompletePlayers(String prefix, int limit) {
+        return getCatalog().getAutocomplete().suggestEncoded(prefix, limit, this::encodeSuggestions);
+    }
+
+    private byte[] encodeSuggestions(List<NBAPlayerDTO> players) {
+        List<PlayerSuggestionDTO> suggestions = players.stream()
+                .map(PlayerSuggestionDTO::fromPlayer)
                 .collect(Collectors.toList());
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.builder()
+                    .success(true)
+                    .message("Found " + suggestions.size() + " suggestions")
+                    .data(suggestions)
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode player suggestions", e);
+        }
+    }
+
+    /**
+     * Rank players by fuzzy (trigram) similarity to a name
+     * @param name The name or partial name
+     * @param limit Maximum number of matches
+     * @return Matches above nba.api.match.suggestion-similarity, best first
+     */
+    public List<PlayerMatch> matchPlayers(String name, int limit) {
+        if (name == null || name.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return getCatalog().matchByName(name, limit, nbaApiConfig.getMatch().getSuggestionSimilarity());
+    }
+
+    /**
+     * Resolve a free-text name to exactly one player
+     * Weak matches (below nba.api.match.min-similarity) and ambiguous ones (runner-up within
+     * nba.api.match.min-margin, e.g. a bare "Jalen") resolve to nothing rather than a guess
+     * @return The player, or null if the name does not identify one player
+     */
+    public NBAPlayerDTO resolvePlayer(String name) {
+        return resolvePlayer(getCatalog(), name);
+    }
+
+    /**
+     * Resolve a free-text name to exactly one player of a given catalog snapshot (e.g. a scoring run's)
+     * @return The player, or null if the name does not identify one player
+     */
+    public NBAPlayerDTO resolvePlayer(PlayerCatalog catalog, String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return null;
+        }
+
+        NbaApiConfig.Match match = nbaApiConfig.getMatch();
+        PlayerMatch resolved = catalog.resolveByName(name, match.getMinSimilarity(), match.getMinMargin());
+        return resolved != null ? resolved.getPlayer() : null;
     }
 
     /**
@@ -77,10 +386,7 @@ public class NBAPlayerService {
             return new ArrayList<>();
         }
 
-        return getAllPlayers().stream()
-                .filter(player -> player.getTeam() != null &&
-                        player.getTeam().equalsIgnoreCase(team))
-                .collect(Collectors.toList());
+        return getCatalog().findByTeam(team);
     }
 
     /**
@@ -91,10 +397,7 @@ public class NBAPlayerService {
             return new ArrayList<>();
         }
 
-        return getAllPlayers().stream()
-                .filter(player -> player.getPosition() != null &&
-                        player.getPosition().equalsIgnoreCase(position))
-                .collect(Collectors.toList());
+        return getCatalog().findByPosition(position);
     }
 
     /**
@@ -105,11 +408,50 @@ public class NBAPlayerService {
             return null;
         }
 
-        return getAllPlayers().stream()
-                .filter(player -> player.getPlayerId() != null &&
-                        player.getPlayerId().equals(playerId))
-                .findFirst()
-                .orElse(null);
+        return getCatalog().findById(playerId);
+    }
+
+    /**
+     * Resolve many players in one call against a single catalog snapshot
+     * IDs go through the ID index and names through the same fuzzy resolution as draft picks
+     * @param ids Player IDs (nullable)
+     * @param names Player names (nullable)
+     * @return Resolved players in request order plus the inputs that did not resolve
+     * @throws IllegalArgumentException if more than MAX_BULK_LOOKUP IDs and names are requested
+     */
+    public BulkPlayerLookupResponse lookupPlayers(List<String> ids, List<String> names) {
+        List<String> requestedIds = ids != null ? ids : List.of();
+        List<String> requestedNames = names != null ? names : List.of();
+        if (requestedIds.size() + requestedNames.size() > MAX_BULK_LOOKUP) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_LOOKUP + " players can be looked up at once");
+        }
+
+        PlayerCatalog catalog = getCatalog();
+        NbaApiConfig.Match match = nbaApiConfig.getMatch();
+        Map<String, NBAPlayerDTO> found = new LinkedHashMap<>();
+        List<String> notFound = new ArrayList<>();
+
+        for (String id : requestedIds) {
+            NBAPlayerDTO player = catalog.findById(id);
+            if (player != null) {
+                found.putIfAbsent(player.getPlayerId(), player);
+            } else {
+                notFound.add(id);
+            }
+        }
+        for (String name : requestedNames) {
+            PlayerMatch resolved = catalog.resolveByName(name, match.getMinSimilarity(), match.getMinMargin());
+            if (resolved != null) {
+                found.putIfAbsent(resolved.getPlayer().getPlayerId(), resolved.getPlayer());
+            } else {
+                notFound.add(name);
+            }
+        }
+
+        return BulkPlayerLookupResponse.builder()
+                .players(new ArrayList<>(found.values()))
+                .notFound(notFound)
+                .build();
     }
 
     /**
@@ -127,24 +469,14 @@ public class NBAPlayerService {
      * Get all unique positions
      */
     public List<String> getAllPositions() {
-        return getAllPlayers().stream()
-                .map(NBAPlayerDTO::getPosition)
-                .distinct()
-                .filter(position -> position != null && !position.isEmpty())
-                .sorted()
-                .collect(Collectors.toList());
+        return getCatalog().getPositions();
     }
 
     /**
      * Get all unique teams
      */
     public List<String> getAllTeams() {
-        return getAllPlayers().stream()
-                .map(NBAPlayerDTO::getTeam)
-                .distinct()
-                .filter(team -> team != null && !team.isEmpty())
-                .sorted()
-                .collect(Collectors.toList());
+        return getCatalog().getTeams();
     }
 
     /**
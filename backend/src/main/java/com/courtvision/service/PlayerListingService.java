@@ -0,0 +1,343 @@
+package com.courtvision.service;
+
+import com.courtvision.dto.ApiResponse;
+import com.courtvision.dto.NBAPlayerDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves the player listing (/api/nba/players) as pre-encoded pages
+ *
+ * The player list only changes when the catalog is replaced, so each distinct page
+ * (cursor, limit, fields) is encoded to JSON once per catalog version, gzipped once, and given
+ * a strong ETag derived from its bytes. Later requests for the same page copy those bytes out
+ * (or answer 304). The cache is keyed on the identity of the catalog's player list, so a refresh
+ * drops every encoded page at once.
+ *
+ * Cursors are opaque: they encode the position and ID of the last player returned. Within one
+ * catalog version the position is exact (null or repeated IDs included); after a refresh the
+ * ID locates the player again, so paging resumes after that player.
+ */
+@Service
+@RequiredArgsConstructor
+public class PlayerListingService {
+
+    /**
+     * Largest page a client can request
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    // Bound on distinct encoded pages kept per catalog version; beyond it pages are encoded per request
+    private static final int MAX_CACHED_PAGES = 256;
+
+    // Bodies smaller than this are not worth gzipping
+    private static final int GZIP_MIN_BYTES = 1024;
+
+    // Projectable fields: request alias -> JSON property
+    private static final Map<String, String> FIELD_ALIASES = Map.ofEntries(
+            Map.entry("id", "player_id"),
+            Map.entry("player_id", "player_id"),
+            Map.entry("name", "name"),
+            Map.entry("first_name", "first_name"),
+            Map.entry("last_name", "last_name"),
+            Map.entry("position", "position"),
+            Map.entry("team", "team"),
+            Map.entry("team_id", "team_id"),
+            Map.entry("height", "height"),
+            Map.entry("weight", "weight"),
+            Map.entry("college", "college"),
+            Map.entry("salary", "salary"),
+            Map.entry("jersey_number", "jersey_number"));
+
+    private final NBAPlayerService nbaPlayerService;
+    private final ObjectMapper objectMapper;
+
+    private volatile Version version;
+
+    /**
+     * Get one page of the player listing, encoded
+     * @param cursor Cursor from a previous page's next cursor, or null for the first page
+     * @param limit Page size, or null for every remaining player
+     * @param fields Comma-separated fields to include (e.g. "id,name,team"), or null for full players
+     * @return The encoded page
+     * @throws IllegalArgumentException on an unknown cursor or field, or a limit outside 1..MAX_PAGE_SIZE
+     */
+    public EncodedPage getPage(String cursor, Integer limit, String fields) {
+        if (limit != null && (limit < 1 || limit > MAX_PAGE_SIZE)) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        List<String> projection = parseFields(fields);
+
+        Version current = currentVersion();
+        String key = (cursor == null ? "" : cursor) + '|' + (limit == null ? "" : limit) + '|' + String.join(",", projection);
+        EncodedPage page = current.pages.get(key);
+        if (page != null) {
+            return page;
+        }
+
+        page = encodePage(current, cursor, limit, projection);
+        if (current.pages.size() < MAX_CACHED_PAGES) {
+            EncodedPage existing = current.pages.putIfAbsent(key, page);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return page;
+    }
+
+    private Version currentVersion() {
+        List<NBAPlayerDTO> players = nbaPlayerService.getAllPlayers();
+        Version current = version;
+        if (current == null || current.players != players) {
+            current = new Version(players);
+            version = current;
+        }
+        return current;
+    }
+
+    private EncodedPage encodePage(Version current, String cursor, Integer limit, List<String> projection) {
+        List<NBAPlayerDTO> players = current.players;
+        int start = cursor == null ? 0 : current.ordinalAfter(decodeCursor(cursor));
+        int end = limit == null ? players.size() : (int) Math.min(players.size(), (long) start + limit);
+        List<NBAPlayerDTO> page = players.subList(start, end);
+        String nextCursor = end < players.size() && end > start ? encodeCursor(end - 1, players.get(end - 1).getPlayerId()) : null;
+
+        byte[] body = projection.isEmpty() ? encodeFull(page) : encodeProjected(page, projection);
+        byte[] gzipped = body.length >= GZIP_MIN_BYTES ? gzip(body) : null;
+        return new EncodedPage(body, gzipped, strongETag(body), nextCursor);
+    }
+
+    private byte[] encodeFull(List<NBAPlayerDTO> page) {
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.builder()
+                    .success(true)
+                    .message("Retrieved " + page.size() + " players")
+                    .data(page)
+                    .build());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not encode player listing", e);
+        }
+    }
+
+    private byte[] encodeProjected(List<NBAPlayerDTO> page, List<String> projection) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(page.size() * 16 * projection.size() + 64);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", "Retrieved " + page.size() + " players");
+            generator.writeArrayFieldStart("data");
+            for (NBAPlayerDTO player : page) {
+                generator.writeStartObject();
+                for (String field : projection) {
+                    writeField(generator, player, field);
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not encode player listing", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeField(JsonGenerator generator, NBAPlayerDTO player, String field) throws IOException {
+        generator.writeFieldName(field);
+        switch (field) {
+            case "player_id" -> generator.writeString(player.getPlayerId());
+            case "name" -> generator.writeString(player.getFullName());
+            case "first_name" -> generator.writeString(player.getFirstName());
+            case "last_name" -> generator.writeString(player.getLastName());
+            case "position" -> generator.writeString(player.getPosition());
+            case "team" -> generator.writeString(player.getTeam());
+            case "team_id" -> generator.writeString(player.getTeamId());
+            case "height" -> generator.writeString(player.getHeight());
+            case "weight" -> generator.writeString(player.getWeight());
+            case "college" -> generator.writeString(player.getCollege());
+            case "salary" -> {
+                if (player.getSalary() != null) {
+                    generator.writeNumber(player.getSalary());
+                } else {
+                    generator.writeNull();
+                }
+            }
+            case "jersey_number" -> {
+                if (player.getJerseyNumber() != null) {
+                    generator.writeNumber(player.getJerseyNumber());
+                } else {
+                    generator.writeNull();
+                }
+            }
+            default -> throw new IllegalStateException("Unmapped field: " + field);
+        }
+    }
+
+    private static List<String> parseFields(String fields) {
+        List<String> projection = new ArrayList<>();
+        if (fields == null || fields.isBlank()) {
+            return projection;
+        }
+        for (String field : fields.split(",")) {
+            String name = field.trim().toLowerCase(Locale.ROOT);
+            if (name.isEmpty()) {
+                continue;
+            }
+            String property = FIELD_ALIASES.get(name);
+            if (property == null) {
+                throw new IllegalArgumentException("Unknown field: " + field.trim());
+            }
+            if (!projection.contains(property)) {
+                projection.add(property);
+            }
+        }
+        return projection;
+    }
+
+    private static String encodeCursor(int position, String playerId) {
+        String value = position + ":" + (playerId == null ? "" : playerId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decodeCursor(String cursor) {
+        String value;
+        try {
+            value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        int separator = value.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        try {
+            int position = Integer.parseInt(value.substring(0, separator));
+            String playerId = value.substring(separator + 1);
+            return new Cursor(position, playerId.isEmpty() ? null : playerId);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not gzip player listing", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String strongETag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 27);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Encoded pages for one catalog version (one player list instance)
+     */
+    private static final class Version {
+
+        private final List<NBAPlayerDTO> players;
+        private final Map<String, EncodedPage> pages = new ConcurrentHashMap<>();
+        private volatile Map<String, List<Integer>> ordinalsById;
+
+        private Version(List<NBAPlayerDTO> players) {
+            this.players = players;
+        }
+
+        /**
+         * Position just after the cursor's player: its recorded position when that still holds the
+         * same ID, otherwise the first copy of the ID at or after that position (or the last copy)
+         */
+        int ordinalAfter(Cursor cursor) {
+            int position = cursor.position();
+            if (position < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            if (position < players.size() && Objects.equals(players.get(position).getPlayerId(), cursor.playerId())) {
+                return position + 1;
+            }
+            if (cursor.playerId() == null) {
+                // Nothing to find the player by; resume at the same position
+                return Math.min(position + 1, players.size());
+            }
+            List<Integer> candidates = ordinals().get(cursor.playerId());
+            if (candidates == null) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            for (int ordinal : candidates) {
+                if (ordinal >= position) {
+                    return ordinal + 1;
+                }
+            }
+            return candidates.get(candidates.size() - 1) + 1;
+        }
+
+        private Map<String, List<Integer>> ordinals() {
+            Map<String, List<Integer>> ordinals = ordinalsById;
+            if (ordinals == null) {
+                ordinals = new HashMap<>(players.size() * 2);
+                for (int i = 0; i < players.size(); i++) {
+                    if (players.get(i).getPlayerId() != null) {
+                        ordinals.computeIfAbsent(players.get(i).getPlayerId(), id -> new ArrayList<>(1)).add(i);
+                    }
+                }
+                ordinalsById = ordinals;
+            }
+            return ordinals;
+        }
+    }
+
+    // Last position and player ID returned; the ID is null when that player had none
+    private record Cursor(int position, String playerId) {
+    }
+
+    /**
+     * One encoded listing page
+     */
+    @Getter
+    public static final class EncodedPage {
+
+        private final byte[] body;
+
+        // Gzipped body, or null when the body is too small to be worth compressing
+        private final byte[] gzippedBody;
+
+        // Opaque strong validator (unquoted); the gzipped representation gets its own suffix
+        private final String eTag;
+
+        // Cursor for the following page, or null on the last page
+        private final String nextCursor;
+
+        private EncodedPage(byte[] body, byte[] gzippedBody, String eTag, String nextCursor) {
+            this.body = body;
+            this.gzippedBody = gzippedBody;
+            this.eTag = eTag;
+            this.nextCursor = nextCursor;
+        }
+    }
+}
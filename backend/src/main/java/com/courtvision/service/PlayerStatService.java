@@ -0,0 +1,238 @@
+package com.courtvision.service;
+
+import com.courtvision.config.NbaApiConfig;
+import com.courtvision.stats.BoxScoreParser;
+import com.courtvision.stats.PlayerStatStore;
+import com.courtvision.stats.StatLine;
+import com.courtvision.stats.StatUpdate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Service for ingesting per-game box scores and serving them to scoring
+ * Daily box scores are streamed from SportsBlaze into a columnar in-memory {@link PlayerStatStore}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlayerStatService {
+
+    // Days ingested per store update while backfilling (each update copies the columns once)
+    private static final int BACKFILL_BATCH_DAYS = 30;
+
+    private final RestTemplate restTemplate;
+    private final NbaApiConfig nbaApiConfig;
+    private final ObjectMapper objectMapper;
+
+    // All ingestion runs on this one thread: the startup backfill stays off the startup thread, and a
+    // daily ingest queued behind a running backfill only sees (and reports deltas against) a full season
+    private final ExecutorService ingestionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "nba-stat-ingestion");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Days a range ingest could not fetch; until they are ingested the store is behind the season
+    private final Set<LocalDate> missedDates = new ConcurrentSkipListSet<>();
+
+    private PlayerStatStore statStore;
+    private BoxScoreParser boxScoreParser;
+
+    @PostConstruct
+    void initStatStore() {
+        NbaApiConfig.Stats stats = nbaApiConfig.getStats();
+        statStore = new PlayerStatStore(stats.getSeasonStart(), stats.getSeasonDays());
+        boxScoreParser = new BoxScoreParser(objectMapper.getFactory());
+    }
+
+    /**
+     * Re-ingest the season to date in the background once the application is up
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSeason() {
+        if (!nbaApiConfig.getStats().isBackfillOnStartup() || !isApiConfigured()) {
+            return;
+        }
+        ingestionExecutor.execute(() -> ingestRange(statStore.getSeasonStart(), LocalDate.now().minusDays(1)));
+    }
+
+    @PreDestroy
+    void shutdownIngestion() {
+        ingestionExecutor.shutdownNow();
+    }
+
+    /**
+     * Fetch and store one day of box scores (replacing any lines already stored for it)
+     * Waits for any running backfill to finish first
+     * @param date The game date
+     * @return The stat deltas of every player whose stats changed
+     * @throws IllegalStateException if the box scores could not be fetched
+     */
+    public StatUpdate ingestDay(LocalDate date) {
+        try {
+            return ingestionExecutor.submit(() -> {
+                List<StatLine> lines = fetchDay(date);
+                if (lines == null) {
+                    throw new IllegalStateException("Box scores unavailable for " + date);
+                }
+                StatUpdate update = statStore.apply(Map.of(date, lines));
+                missedDates.remove(date);
+                log.info("Ingested {} stat lines for {} ({} players changed)",
+                        update.getLinesStored(), date, update.getDeltas().size());
+                return update;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Box score ingestion interrupted for " + date, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IllegalStateException unavailable) {
+                throw unavailable;
+            }
+            throw new IllegalStateException("Box score ingestion failed for " + date, e.getCause());
+        }
+    }
+
+    /**
+     * Fetch and store every day in a range (inclusive), in batches, on the calling thread
+     * Days that fail to fetch are skipped, logged as an error and remembered for {@link #retryMissedDates()}
+     * @return Number of stat lines stored
+     */
+    public int ingestRange(LocalDate from, LocalDate to) {
+        LocalDate first = from.isBefore(statStore.getSeasonStart()) ? statStore.getSeasonStart() : from;
+        LocalDate last = to.isAfter(statStore.getSeasonEnd()) ? statStore.getSeasonEnd() : to;
+
+        int stored = 0;
+        List<LocalDate> missed = new ArrayList<>();
+        Map<LocalDate, List<StatLine>> batch = new LinkedHashMap<>();
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            List<StatLine> lines = fetchDay(date);
+            if (lines != null) {
+                batch.put(date, lines);
+                missedDates.remove(date);
+            } else {
+                missed.add(date);
+                missedDates.add(date);
+            }
+            if (batch.size() == BACKFILL_BATCH_DAYS) {
+                stored += statStore.apply(batch).getLinesStored();
+                batch = new LinkedHashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            stored += statStore.apply(batch).getLinesStored();
+        }
+        log.info("Ingested {} stat lines for {} to {}", stored, first, last);
+        if (!missed.isEmpty()) {
+            log.error("Box scores unavailable for {} days between {} and {}: {}; incremental scoring is skipped until they are ingested",
+                    missed.size(), first, last, missed);
+        }
+        return stored;
+    }
+
+    /**
+     * Retry the days earlier range ingests failed to fetch
+     * Waits for any running backfill to finish first
+     * @return Number of days that were missing before the retry (0 if the store was complete);
+     *         scores computed meanwhile do not include them even if the retry recovered them
+     */
+    public int retryMissedDates() {
+        try {
+            return ingestionExecutor.submit(() -> {
+                List<LocalDate> missing = List.copyOf(missedDates);
+                for (LocalDate date : missing) {
+                    ingestRange(date, date);
+                }
+                return missing.size();
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Box score retry interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Box score retry failed", e.getCause());
+        }
+    }
+
+    /**
+     * Days earlier range ingests failed to fetch and that have not been ingested since
+     */
+    public Set<LocalDate> getMissedDates() {
+        return Set.copyOf(missedDates);
+    }
+
+    /**
+     * The stat store scoring reads from
+     */
+    public PlayerStatStore getStatStore() {
+        return statStore;
+    }
+
+    /**
+     * Season-to-date stat totals for a player
+     * @param playerId NBA player ID
+     * @param asOf Last date included
+     * @return Totals indexed by Stat ordinal, or null if no games are stored for the player
+     */
+    public long[] seasonTotals(String playerId, LocalDate asOf) {
+        if (playerId == null) {
+            return null;
+        }
+        return statStore.totals(playerId, statStore.getSeasonStart(), asOf);
+    }
+
+    /**
+     * Fetch one day of box scores without storing them (live polling of games in progress)
+     * Partial lines must stay out of the store: nightly incremental scoring diffs against what it holds
+     * @return The stat lines so far, or null if the fetch failed
+     */
+    public List<StatLine> fetchBoxScores(LocalDate date) {
+        return fetchDay(date);
+    }
+
+    /**
+     * Fetch one day of box scores, streaming the body through the parser
+     * @return The stat lines, or null if the fetch failed
+     */
+    private List<StatLine> fetchDay(LocalDate date) {
+        if (!isApiConfigured()) {
+            return null;
+        }
+        try {
+            String url = UriComponentsBuilder.fromHttpUrl(nbaApiConfig.getBaseUrl())
+                    .path(nbaApiConfig.getStats().getBoxScorePath().replace("{date}", date.toString()))
+                    .queryParam("key", nbaApiConfig.getKey())
+                    .toUriString();
+            return restTemplate.execute(url, HttpMethod.GET, null,
+                    clientResponse -> boxScoreParser.parse(clientResponse.getBody()));
+        } catch (Exception e) {
+            log.warn("Error fetching box scores for {}: {}", date, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isApiConfigured() {
+        return nbaApiConfig.getKey() != null && !nbaApiConfig.getKey().isBlank();
+    }
+}
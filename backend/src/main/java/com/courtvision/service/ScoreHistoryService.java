@@ -0,0 +1,354 @@
+package com.courtvision.service;
+
+import com.courtvision.config.ScoreHistoryConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Service for score history storage: time partitions, weekly rollups and retention
+ *
+ * On PostgreSQL score_calculations is range-partitioned by month on calculated_at. Rows are only ever
+ * appended to the current month, so each partition's indexes stay small and a finished month is never
+ * vacuumed again; expired history is removed by dropping whole partitions instead of deleting rows.
+ * Completed weeks are rolled up into score_history_weekly before their raw rows can expire.
+ *
+ * The schema is otherwise managed by Hibernate, so the one-time conversion of an existing table runs
+ * here, on a start with score-history.convert-existing-table set: the old table becomes a single
+ * partition covering everything up to the end of the current month and is dropped once all of it has
+ * expired. Every statement that changes partitions holds a PostgreSQL advisory lock, so nodes starting
+ * together or running maintenance never issue conflicting DDL.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScoreHistoryService {
+
+    private static final String TABLE = "score_calculations";
+    private static final String LEGACY_PARTITION = "score_calculations_legacy";
+    private static final String ID_SEQUENCE = "score_calculations_history_id_seq";
+
+    // Advisory lock key serializing partition DDL across nodes
+    private static final long PARTITION_LOCK = 0x73636f7265L;
+
+    // Raw rows must outlive the rollup of the week they belong to
+    private static final int MIN_RETENTION_DAYS = 14;
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Pattern RANGE_BOUND = Pattern.compile("FROM \\((.+?)\\) TO \\((.+?)\\)");
+
+    // Recomputes whole weeks, so re-running over a week already rolled up just refreshes it
+    private static final String ROLLUP_SQL =
+            "INSERT INTO score_history_weekly (league_id, user_id, week_start, closing_score, min_score, max_score, " +
+            "average_score, samples, rolled_up_at) " +
+            "SELECT league_id, user_id, CAST(date_trunc('week', calculated_at) AS date), " +
+            "(array_agg(total_score ORDER BY calculated_at DESC, id DESC))[1], " +
+            "MIN(total_score), MAX(total_score), AVG(total_score), COUNT(*), ? " +
+            "FROM score_calculations WHERE calculated_at >= ? AND calculated_at < ? " +
+            "GROUP BY league_id, user_id, CAST(date_trunc('week', calculated_at) AS date) " +
+            "ON CONFLICT (league_id, user_id, week_start) DO UPDATE SET " +
+            "closing_score = EXCLUDED.closing_score, min_score = EXCLUDED.min_score, max_score = EXCLUDED.max_score, " +
+            "average_score = EXCLUDED.average_score, samples = EXCLUDED.samples, rolled_up_at = EXCLUDED.rolled_up_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScoreHistoryConfig scoreHistoryConfig;
+
+    private boolean postgres;
+    private boolean enabled;
+
+    @PostConstruct
+    void detectDatabase() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        postgres = "PostgreSQL".equalsIgnoreCase(product);
+        enabled = postgres && scoreHistoryConfig.isPartitioned();
+        if (scoreHistoryConfig.isPartitioned() && !postgres) {
+            log.info("Score history partitioning is only supported on PostgreSQL, not {}", product);
+        }
+        if (scoreHistoryConfig.getRawRetentionDays() < MIN_RETENTION_DAYS) {
+            log.warn("score-history.raw-retention-days={} is below the minimum, keeping {} days",
+                    scoreHistoryConfig.getRawRetentionDays(), MIN_RETENTION_DAYS);
+        }
+    }
+
+    /**
+     * Partition score_calculations if it is not yet and conversion is enabled, create the upcoming
+     * monthly partitions, and make sure the history indexes and foreign keys exist
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void prepareStorage() {
+        if (postgres) {
+            lockPartitions();
+        }
+        if (enabled) {
+            if (!isPartitioned()) {
+                if (!scoreHistoryConfig.isConvertExistingTable()) {
+                    log.warn("{} is not partitioned; start one node with score-history.convert-existing-table=true "
+                            + "to convert it. Partition maintenance is skipped until then", TABLE);
+                } else {
+                    convertToPartitioned();
+                }
+            }
+            if (isPartitioned()) {
+                createUpcomingPartitions();
+            }
+        }
+        // Declared here instead of on the entity: Hibernate cannot see the indexes and foreign keys of a
+        // partitioned table and would try to recreate them on every start
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_league_user ON " + TABLE + " (league_id, user_id)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_calculated_at ON " + TABLE + " (calculated_at)");
+        if (postgres) {
+            addForeignKeyIfMissing("fk_score_calculations_league", "league_id", "leagues");
+            addForeignKeyIfMissing("fk_score_calculations_user", "user_id", "app_users");
+        }
+    }
+
+    /**
+     * Daily maintenance: create upcoming partitions, roll up completed weeks, then drop expired partitions
+     * The scheduler runs it on one node per day; the partition lock also keeps it clear of starting nodes
+     */
+    @Transactional
+    public void runMaintenance() {
+        if (!enabled) {
+            return;
+        }
+        lockPartitions();
+        if (!isPartitioned()) {
+            return;
+        }
+        int created = createUpcomingPartitions();
+        int rolledUp = rollUpWeeks();
+        int dropped = dropExpiredPartitions();
+        log.info("Score history maintenance: {} partitions created, {} weekly rollups written, {} partitions dropped",
+                created, rolledUp, dropped);
+    }
+
+    /**
+     * Roll up every completed week since the last rolled-up one (re-rolling that one)
+     * @return Weekly rollup rows written
+     */
+    public int rollUpWeeks() {
+        LocalDate currentWeek = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate from = jdbcTemplate.queryForObject("SELECT MAX(week_start) FROM score_history_weekly", LocalDate.class);
+        if (from == null) {
+            LocalDateTime first = jdbcTemplate.queryForObject("SELECT MIN(calculated_at) FROM " + TABLE, LocalDateTime.class);
+            if (first == null) {
+                return 0;
+            }
+            from = first.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+        if (!from.isBefore(currentWeek)) {
+            return 0;
+        }
+        return jdbcTemplate.update(ROLLUP_SQL, LocalDateTime.now(), from.atStartOfDay(), currentWeek.atStartOfDay());
+    }
+
+    /**
+     * Drop partitions whose rows are all older than the retention period
+     * A partition still holding a score the scoreboard points at (a league that stopped being scored)
+     * is kept until that league is scored again.
+     * @return Partitions dropped
+     */
+    public int dropExpiredPartitions() {
+        int retentionDays = Math.max(scoreHistoryConfig.getRawRetentionDays(), MIN_RETENTION_DAYS);
+        LocalDateTime cutoff = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+        int dropped = 0;
+        for (Partition partition : listPartitions()) {
+            if (partition.to == null || partition.to.isAfter(cutoff)) {
+                continue;
+            }
+            if (holdsCurrentScores(partition)) {
+                log.info("Keeping expired partition {}: it holds current scoreboard scores", partition.name);
+                continue;
+            }
+            jdbcTemplate.execute("DROP TABLE " + partition.name);
+            log.info("Dropped score history partition {} (rows before {})", partition.name, partition.to);
+            dropped++;
+        }
+        return dropped;
+    }
+
+    /**
+     * Take the partition DDL lock for the rest of the current transaction
+     */
+    private void lockPartitions() {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", (RowCallbackHandler) rs -> { }, PARTITION_LOCK);
+    }
+
+    private boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))",
+                Boolean.class, TABLE);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    /**
+     * Replace the plain table with a partitioned one, attaching the existing rows as one partition
+     */
+    private void convertToPartitioned() {
+        jdbcTemplate.execute("LOCK TABLE " + TABLE + " IN ACCESS EXCLUSIVE MODE");
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + TABLE, Long.class);
+        LocalDateTime latest = jdbcTemplate.queryForObject("SELECT MAX(calculated_at) FROM " + TABLE, LocalDateTime.class);
+        YearMonth lastMonth = latest != null && YearMonth.from(latest).isAfter(YearMonth.now())
+                ? YearMonth.from(latest)
+                : YearMonth.now();
+        LocalDateTime legacyEnd = lastMonth.plusMonths(1).atDay(1).atStartOfDay();
+
+        // A foreign key into a partitioned table would need the partition key, so references are kept unenforced
+        for (Map<String, Object> reference : jdbcTemplate.queryForList(
+                "SELECT conrelid::regclass::text AS referencing, conname FROM pg_constraint " +
+                "WHERE contype = 'f' AND confrelid = to_regclass(?)", TABLE)) {
+            jdbcTemplate.execute("ALTER TABLE " + reference.get("referencing")
+                    + " DROP CONSTRAINT " + quote((String) reference.get("conname")));
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME TO " + LEGACY_PARTITION);
+        // The partition's primary key is rebuilt on (id, calculated_at) when it is attached
+        for (String primaryKey : jdbcTemplate.queryForList(
+                "SELECT conname FROM pg_constraint WHERE contype = 'p' AND conrelid = to_regclass(?)",
+                String.class, LEGACY_PARTITION)) {
+            jdbcTemplate.execute("ALTER TABLE " + LEGACY_PARTITION + " DROP CONSTRAINT " + quote(primaryKey));
+        }
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid WHERE i.indrelid = to_regclass(?)",
+                String.class, LEGACY_PARTITION);
+        for (String index : indexes) {
+            jdbcTemplate.execute("ALTER INDEX " + quote(index) + " RENAME TO " + quote(index + "_legacy"));
+        }
+        // Re-created on the parent (and cloned to every partition) once the table is partitioned
+        for (String foreignKey : jdbcTemplate.queryForList(
+                "SELECT conname FROM pg_constraint WHERE contype = 'f' AND conrelid = to_regclass(?)",
+                String.class, LEGACY_PARTITION)) {
+            jdbcTemplate.execute("ALTER TABLE " + LEGACY_PARTITION + " DROP CONSTRAINT " + quote(foreignKey));
+        }
+
+        // Ids continue from the old table; its identity (if any) is dropped, as partitions cannot have their own.
+        // Hibernate assigns ids from score_calculations_seq; the default only serves inserts made outside it
+        jdbcTemplate.execute("CREATE SEQUENCE " + ID_SEQUENCE + " START WITH " + (maxId + 1));
+        jdbcTemplate.execute("ALTER TABLE " + LEGACY_PARTITION + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+        jdbcTemplate.execute("ALTER TABLE " + LEGACY_PARTITION + " ALTER COLUMN id DROP DEFAULT");
+
+        jdbcTemplate.execute("CREATE TABLE " + TABLE + " (LIKE " + LEGACY_PARTITION + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS) " +
+                "PARTITION BY RANGE (calculated_at)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ALTER COLUMN id SET DEFAULT nextval('" + ID_SEQUENCE + "')");
+        jdbcTemplate.execute("ALTER SEQUENCE " + ID_SEQUENCE + " OWNED BY " + TABLE + ".id");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT score_calculations_pkey PRIMARY KEY (id, calculated_at)");
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ATTACH PARTITION " + LEGACY_PARTITION
+                + " FOR VALUES FROM (MINVALUE) TO ('" + legacyEnd.format(BOUND_FORMAT) + "')");
+        log.info("Converted {} to monthly partitions; existing rows ({} max id) kept in {} until {}",
+                TABLE, maxId, LEGACY_PARTITION, legacyEnd);
+    }
+
+    /**
+     * Create the monthly partitions from the current month to partitionsAhead months out
+     * @return Partitions created
+     */
+    private int createUpcomingPartitions() {
+        List<Partition> partitions = listPartitions();
+        YearMonth current = YearMonth.now();
+        int created = 0;
+        for (int i = 0; i <= scoreHistoryConfig.getPartitionsAhead(); i++) {
+            YearMonth month = current.plusMonths(i);
+            LocalDateTime from = month.atDay(1).atStartOfDay();
+            if (partitions.stream().anyMatch(partition -> partition.covers(from))) {
+                continue;
+            }
+            LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+            jdbcTemplate.execute("CREATE TABLE " + TABLE + "_p" + month.format(PARTITION_SUFFIX) + " PARTITION OF " + TABLE
+                    + " FOR VALUES FROM ('" + from.format(BOUND_FORMAT) + "') TO ('" + to.format(BOUND_FORMAT) + "')");
+            created++;
+        }
+        return created;
+    }
+
+    private void addForeignKeyIfMissing(String name, String column, String referencedTable) {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_constraint WHERE contype = 'f' AND conrelid = to_regclass(?) " +
+                "AND confrelid = to_regclass(?))",
+                Boolean.class, TABLE, referencedTable);
+        if (!Boolean.TRUE.equals(exists)) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT " + name
+                    + " FOREIGN KEY (" + column + ") REFERENCES " + referencedTable + " (id)");
+        }
+    }
+
+    private List<Partition> listPartitions() {
+        return jdbcTemplate.query(
+                "SELECT c.oid::regclass::text AS name, pg_get_expr(c.relpartbound, c.oid) AS bound " +
+                "FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = to_regclass(?)",
+                (rs, rowNum) -> Partition.parse(rs.getString("name"), rs.getString("bound")),
+                TABLE);
+    }
+
+    private boolean holdsCurrentScores(Partition partition) {
+        Boolean holds = partition.from == null
+                ? jdbcTemplate.queryForObject(
+                        "SELECT EXISTS (SELECT 1 FROM league_scoreboard_current WHERE calculated_at < ?)",
+                        Boolean.class, partition.to)
+                : jdbcTemplate.queryForObject(
+                        "SELECT EXISTS (SELECT 1 FROM league_scoreboard_current WHERE calculated_at >= ? AND calculated_at < ?)",
+                        Boolean.class, partition.from, partition.to);
+        return Boolean.TRUE.equals(holds);
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * One range partition of score_calculations; a null bound is unbounded
+     */
+    private static final class Partition {
+
+        private final String name;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+
+        private Partition(String name, LocalDateTime from, LocalDateTime to) {
+            this.name = name;
+            this.from = from;
+            this.to = to;
+        }
+
+        static Partition parse(String name, String bound) {
+            Matcher matcher = RANGE_BOUND.matcher(bound);
+            if (!matcher.find()) {
+                // DEFAULT partition: never covers a month and never expires
+                return new Partition(name, LocalDateTime.MAX, null);
+            }
+            return new Partition(name, parseBound(matcher.group(1)), parseBound(matcher.group(2)));
+        }
+
+        private static LocalDateTime parseBound(String value) {
+            if (value.equals("MINVALUE") || value.equals("MAXVALUE")) {
+                return null;
+            }
+            return LocalDateTime.parse(value.replace("'", ""), BOUND_FORMAT);
+        }
+
+        boolean covers(LocalDateTime time) {
+            return (from == null || !time.isBefore(from)) && (to == null || time.isBefore(to));
+        }
+    }
+}
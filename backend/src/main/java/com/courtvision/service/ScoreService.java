@@ -1,20 +1,34 @@
 package com.courtvision.service;
 
+import com.courtvision.catalog.LocalPlayerCsvParser;
+import com.courtvision.catalog.PlayerCatalog;
 import com.courtvision.config.KafkaConfig;
+import com.courtvision.dto.LeagueScoreboardSnapshotEvent;
 import com.courtvision.dto.NBAPlayerDTO;
-import com.courtvision.dto.ScoreUpdateEvent;
+import com.courtvision.dto.RosterSlot;
+import com.courtvision.dto.ScoreCalculationDTO;
 import com.courtvision.entity.*;
 import com.courtvision.repository.DraftPickRepository;
 import com.courtvision.repository.LeagueMemberRepository;
 import com.courtvision.repository.LeagueRepository;
+import com.courtvision.repository.LeagueScoreboardRepository;
 import com.courtvision.repository.ScoreCalculationRepository;
+import com.courtvision.stats.ScoringWeights;
+import com.courtvision.stats.StatUpdate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -29,55 +43,107 @@ import java.util.stream.Collectors;
 public class ScoreService {
 
     private final ScoreCalculationRepository scoreCalculationRepository;
+    private final LeagueScoreboardRepository leagueScoreboardRepository;
     private final DraftPickRepository draftPickRepository;
     private final LeagueRepository leagueRepository;
     private final LeagueMemberRepository leagueMemberRepository;
     private final NBAPlayerService nbaPlayerService;
-    private final KafkaTemplate<String, ScoreUpdateEvent> scoreUpdateKafkaTemplate;
+    private final PlayerStatService playerStatService;
+    private final ScoringLedgerService scoringLedgerService;
+    private final JobClaimService jobClaimService;
+    private final LeaderboardService leaderboardService;
+    private final KafkaTemplate<String, LeagueScoreboardSnapshotEvent> leagueScoreboardKafkaTemplate;
 
     @Autowired
     private com.courtvision.repository.DraftRepository draftRepository;
 
-    // Scoring configuration (fantasy points per stat)
-    private static final double POINTS_PER_POINT = 1.0;
-    private static final double POINTS_PER_REBOUND = 1.2;
-    private static final double POINTS_PER_ASSIST = 1.5;
-    private static final double POINTS_PER_STEAL = 2.0;
-    private static final double POINTS_PER_BLOCK = 2.0;
-    private static final double POINTS_PER_TURNOVER = -0.5;
-    private static final double POINTS_PER_FOUL = -0.2;
+    // Player IDs per reverse-index query (keeps the IN list within driver limits)
+    private static final int REVERSE_INDEX_BATCH = 1000;
+
+    // Claimed in job_claims for each game date whose stat deltas were applied, in the same transaction
+    private static final String STAT_DELTAS_JOB = "stat-deltas";
+
+    // Furthest back the daily job looks for an unbroken run of applied stat deltas
+    private static final int MAX_INCREMENTAL_DAYS = 366;
 
     /**
      * Calculate scores for all users in a league
+     * Loads the members (with users), the draft and all of its picks up front, scores every team
+     * in memory against one catalog snapshot, and writes the score rows in a single saveAll
      * @param leagueId The league ID
      * @return Map of user IDs to their calculated scores
      */
     @Transactional
     public Map<Long, ScoreCalculation> calculateLeagueScores(Long leagueId) {
+        return calculateLeagueScores(leagueId, startScoringRun());
+    }
+
+    /**
+     * Calculate scores for all users in a league as part of a larger scoring run
+     * Player points come from the run's table, so players already scored for another league are not recomputed.
+     * The league is marked completed in the scoring_runs ledger in the same transaction as its scores.
+     * @param leagueId The league ID
+     * @param run The scoring run shared by every league in the pass
+     * @return Map of user IDs to their calculated scores
+     */
+    @Transactional
+    public Map<Long, ScoreCalculation> calculateLeagueScores(Long leagueId, ScoringRun run) {
         log.info("Calculating scores for league: {}", leagueId);
 
         League league = leagueRepository.findById(leagueId)
                 .orElseThrow(() -> new IllegalArgumentException("League not found: " + leagueId));
 
-        // Get all league members
-        List<LeagueMember> members = leagueMemberRepository.findByLeagueId(leagueId);
+        // Get all league members, with their users
+        List<LeagueMember> members = leagueMemberRepository.findByLeagueIdWithUser(leagueId);
         if (members.isEmpty()) {
             log.warn("No members found for league: {}", leagueId);
+            scoringLedgerService.markCompleted(leagueId, run.getStatsDate(), run.getRunId(), 0);
             return new HashMap<>();
         }
 
-        Map<Long, ScoreCalculation> scoreMap = new HashMap<>();
+        Optional<Draft> draftOpt = draftRepository.findByLeagueId(leagueId);
+        if (draftOpt.isEmpty()) {
+            log.warn("No draft found for league: {}", leagueId);
+            scoringLedgerService.markCompleted(leagueId, run.getStatsDate(), run.getRunId(), 0);
+            return new HashMap<>();
+        }
+
+        // Every pick in the draft, grouped by picker (the picker's ID is on the pick row)
+        Map<Long, List<DraftPick>> picksByUser = draftPickRepository.findByDraftIdOrdered(draftOpt.get().getId())
+                .stream()
+                .collect(Collectors.groupingBy(pick -> pick.getPicker().getId()));
+
+        ScoringWeights weights = league.getScoringWeights();
+        LocalDateTime calculatedAt = LocalDateTime.now();
+        List<ScoreCalculation> scores = new ArrayList<>(members.size());
 
         // Calculate score for each user
         for (LeagueMember member : members) {
             User user = member.getUser();
-            log.debug("Calculating score for user: {} in league: {}", user.getUsername(), leagueId);
+            List<DraftPick> userPicks = picksByUser.getOrDefault(user.getId(), List.of());
 
-            ScoreCalculation score = calculateUserScore(league, user);
-            if (score != null) {
-                scoreCalculationRepository.save(score);
-                scoreMap.put(user.getId(), score);
+            double totalScore = 0.0;
+            for (DraftPick pick : userPicks) {
+                totalScore += calculatePlayerScore(run, weights, pick);
             }
+            log.debug("Calculated score for user: {} in league: {} = {}", user.getUsername(), leagueId, totalScore);
+
+            scores.add(ScoreCalculation.builder()
+                    .league(league)
+                    .user(user)
+                    .totalScore(totalScore)
+                    .playersEvaluated(userPicks.size())
+                    .calculatedAt(calculatedAt)
+                    .build());
+        }
+
+        List<ScoreCalculation> saved = scoreCalculationRepository.saveAll(scores);
+        updateScoreboard(saved);
+        scoringLedgerService.markCompleted(leagueId, run.getStatsDate(), run.getRunId(), saved.size());
+
+        Map<Long, ScoreCalculation> scoreMap = new HashMap<>();
+        for (ScoreCalculation score : saved) {
+            scoreMap.put(score.getUser().getId(), score);
         }
 
         // Publish scores to Kafka and assign rankings
@@ -88,78 +154,207 @@ public class ScoreService {
     }
 
     /**
-     * Calculate score for a single user in a league
-     * @param league The league
-     * @param user The user
-     * @return ScoreCalculation with calculated score
+     * Adjust league scores for a set of stat changes without rescoring from scratch
+     * Finds the rosters holding the changed players through the reverse index on draft picks, and
+     * writes a new score for just those users: their latest total plus each changed player's
+     * weighted stat delta. Rosters without a changed player are not read or written; leagues that
+     * have never been scored are left to the full calculation.
+     * The game date is claimed in job_claims with the adjusted scores, so a date's deltas are applied
+     * once across the cluster and the daily job can tell which dates have been applied.
+     * @param update Stat deltas from ingesting box scores
+     * @param gameDate The game date the deltas were ingested for
+     * @return Number of user scores adjusted
+     * @throws org.springframework.dao.DataIntegrityViolationException if the date's deltas were already applied
      */
-    private ScoreCalculation calculateUserScore(League league, User user) {
-        // Get the draft for this league
-        Optional<Draft> draftOpt = draftRepository.findByLeagueId(league.getId());
-        if (draftOpt.isEmpty()) {
-            log.warn("No draft found for league: {}", league.getId());
-            return null;
+    @Transactional
+    public int applyStatUpdate(StatUpdate update, LocalDate gameDate) {
+        jobClaimService.claimWith(STAT_DELTAS_JOB, gameDate);
+        if (update.isEmpty()) {
+            return 0;
         }
 
-        Draft draft = draftOpt.get();
+        // League -> user -> changed players on that user's roster
+        Map<Long, Map<Long, List<String>>> changedRosters = new HashMap<>();
+        List<String> changedPlayers = new ArrayList<>(update.getDeltas().keySet());
+        for (int from = 0; from < changedPlayers.size(); from += REVERSE_INDEX_BATCH) {
+            List<String> batch = changedPlayers.subList(from, Math.min(changedPlayers.size(), from + REVERSE_INDEX_BATCH));
+            for (RosterSlot slot : draftPickRepository.findRosterSlotsByNbaPlayerIds(batch)) {
+                changedRosters.computeIfAbsent(slot.getLeagueId(), id -> new HashMap<>())
+                        .computeIfAbsent(slot.getUserId(), id -> new ArrayList<>())
+                        .add(slot.getNbaPlayerId());
+            }
+        }
+        if (changedRosters.isEmpty()) {
+            log.info("No rosters hold any of the {} players with stat changes", changedPlayers.size());
+            return 0;
+        }
 
-        // Get all draft picks for this user in this league's draft
-        List<DraftPick> userPicks = draftPickRepository.findByDraftIdAndPickerId(draft.getId(), user.getId());
+        Map<Long, List<ScoreCalculation>> latestByLeague = leagueScoreboardRepository
+                .findCurrentScoresForLeagues(changedRosters.keySet())
+                .stream()
+                .collect(Collectors.groupingBy(score -> score.getLeague().getId()));
+
+        PlayerCatalog catalog = nbaPlayerService.getCatalog();
+        LocalDateTime calculatedAt = LocalDateTime.now();
+        List<ScoreCalculation> adjusted = new ArrayList<>();
+        Map<Long, League> leagues = new HashMap<>();
+        Map<Long, Map<Long, ScoreCalculation>> leagueScores = new HashMap<>();
+
+        for (Map.Entry<Long, Map<Long, List<String>>> entry : changedRosters.entrySet()) {
+            List<ScoreCalculation> latest = latestByLeague.get(entry.getKey());
+            if (latest == null) {
+                continue;
+            }
+            League league = latest.get(0).getLeague();
+            ScoringWeights weights = league.getScoringWeights();
+
+            Map<Long, ScoreCalculation> scoreMap = new HashMap<>();
+            for (ScoreCalculation previous : latest) {
+                Long userId = previous.getUser().getId();
+                List<String> changed = entry.getValue().get(userId);
+                if (changed == null) {
+                    scoreMap.put(userId, previous);
+                    continue;
+                }
+
+                double totalScore = previous.getTotalScore();
+                for (String playerId : changed) {
+                    NBAPlayerDTO player = catalog.findById(playerId);
+                    if (player != null) {
+                        // Players missing from the catalog score 0 in the full calculation too
+                        totalScore += calculateScoreDelta(weights, update.getDeltas().get(playerId), player);
+                    }
+                }
+
+                ScoreCalculation score = ScoreCalculation.builder()
+                        .league(league)
+                        .user(previous.getUser())
+                        .totalScore(totalScore)
+                        .playersEvaluated(previous.getPlayersEvaluated())
+                        .calculatedAt(calculatedAt)
+                        .build();
+                adjusted.add(score);
+                scoreMap.put(userId, score);
+            }
+            leagues.put(league.getId(), league);
+            leagueScores.put(league.getId(), scoreMap);
+        }
 
-        if (userPicks.isEmpty()) {
-            log.debug("No picks found for user: {} in league: {}", user.getUsername(), league.getId());
-            return ScoreCalculation.builder()
-                    .league(league)
-                    .user(user)
-                    .totalScore(0.0)
-                    .playersEvaluated(0)
-                    .calculatedAt(LocalDateTime.now())
-                    .build();
+        updateScoreboard(scoreCalculationRepository.saveAll(adjusted));
+        leagueScores.forEach((leagueId, scoreMap) -> publishScoresToKafka(leagues.get(leagueId), scoreMap));
+
+        log.info("Adjusted {} scores in {} leagues for {} players with stat changes",
+                adjusted.size(), leagueScores.size(), changedPlayers.size());
+        return adjusted.size();
+    }
+
+    /**
+     * Point the league_scoreboard_current rows of the given scores' users at those scores
+     * Runs inside the caller's transaction, so the projection never disagrees with the history
+     * @param scores Newly saved scores
+     */
+    private void updateScoreboard(List<ScoreCalculation> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        Set<Long> leagueIds = scores.stream().map(score -> score.getLeague().getId()).collect(Collectors.toSet());
+        Map<String, LeagueScoreboardEntry> entries = new HashMap<>();
+        for (LeagueScoreboardEntry entry : leagueScoreboardRepository.findByLeagueIds(leagueIds)) {
+            entries.put(entry.getLeague().getId() + ":" + entry.getUser().getId(), entry);
         }
 
-        double totalScore = 0.0;
-        int playersEvaluated = 0;
+        List<LeagueScoreboardEntry> upserts = new ArrayList<>(scores.size());
+        for (ScoreCalculation score : scores) {
+            LeagueScoreboardEntry entry = entries.get(score.getLeague().getId() + ":" + score.getUser().getId());
+            if (entry == null) {
+                entry = LeagueScoreboardEntry.of(score);
+            } else {
+                entry.update(score);
+            }
+            upserts.add(entry);
+        }
+        leagueScoreboardRepository.saveAll(upserts);
+    }
 
-        // Calculate score for each picked player
-        for (DraftPick pick : userPicks) {
-            double playerScore = calculatePlayerScore(pick.getPlayerName());
-            totalScore += playerScore;
-            playersEvaluated++;
+    /**
+     * Build the league_scoreboard_current projection from the score history if it is empty
+     * (first start after the projection was introduced)
+     * Runs before the in-memory leaderboards are loaded from the projection
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    public void rebuildScoreboardIfEmpty() {
+        if (leagueScoreboardRepository.count() > 0) {
+            return;
+        }
+        List<LeagueScoreboardEntry> entries = scoreCalculationRepository.findLatestScores().stream()
+                .map(LeagueScoreboardEntry::of)
+                .toList();
+        if (!entries.isEmpty()) {
+            leagueScoreboardRepository.saveAll(entries);
+            log.info("Rebuilt league scoreboard projection with {} entries", entries.size());
+        }
+    }
+
+    /**
+     * Change in a player's fantasy points from a stat delta
+     * The stat part is linear, so it is the weighted delta; a player gaining their first stored game
+     * (or losing their last) also swaps the basic calculation in or out. Live scoring uses the same rule
+     */
+    public double calculateScoreDelta(ScoringWeights weights, StatUpdate.PlayerDelta delta, NBAPlayerDTO player) {
+        double change = weights.score(delta.getTotals());
+        if ((delta.getGamesBefore() == 0) != (delta.getGamesAfter() == 0)) {
+            double basic = calculateScoreFromPlayer(player);
+            change += delta.getGamesBefore() == 0 ? -basic : basic;
         }
+        return change;
+    }
+
+    /**
+     * Start a scoring run pinned to the current catalog and today's stats
+     * Pass the same run to every league scored in one pass
+     */
+    public ScoringRun startScoringRun() {
+        return startScoringRun(LocalDate.now());
+    }
+
+    /**
+     * Start a scoring run pinned to the current catalog and the given stats date
+     */
+    public ScoringRun startScoringRun(LocalDate statsDate) {
+        return startScoringRun(UUID.randomUUID().toString(), statsDate);
+    }
 
-        return ScoreCalculation.builder()
-                .league(league)
-                .user(user)
-                .totalScore(totalScore)
-                .playersEvaluated(playersEvaluated)
-                .calculatedAt(LocalDateTime.now())
-                .build();
+    /**
+     * Start a node-local scoring run for a pass identified elsewhere (e.g. a distributed run)
+     */
+    public ScoringRun startScoringRun(String runId, LocalDate statsDate) {
+        return new ScoringRun(runId, statsDate, nbaPlayerService.getCatalog());
     }
 
     /**
      * Calculate fantasy points for a single player based on NBA stats
-     * Uses scoring configuration: points, rebounds, assists, steals, blocks, turnovers, fouls
-     * @param playerName The player name
+     * Applies the league's compiled scoring weights to the player's season totals from the run's table
+     * @param run The scoring run (catalog snapshot, stats date and totals table)
+     * @param weights The league's compiled scoring profile
+     * @param pick The draft pick; resolved by its NBA player ID, or by fuzzy name match (see {@link #resolvePick})
      * @return Fantasy points
      */
-    private double calculatePlayerScore(String playerName) {
+    private double calculatePlayerScore(ScoringRun run, ScoringWeights weights, DraftPick pick) {
+        String playerName = pick.getPlayerName();
         try {
-            List<NBAPlayerDTO> players = nbaPlayerService.searchPlayersByName(playerName);
-            if (players.isEmpty()) {
+            NBAPlayerDTO player = resolvePick(run, pick);
+            if (player == null) {
                 log.warn("Player not found in NBA database: {}", playerName);
                 return 0.0;
             }
 
-            // Get best matching player (first result)
-            NBAPlayerDTO player = players.get(0);
-
-            // Calculate fantasy points based on stats
-            // For now, using a simple scoring system based on average stats
-            double score = 0.0;
-
-            // If player has detailed stats (from full API response), use them
-            // Otherwise use basic calculation
-            score = calculateScoreFromPlayer(player);
+            // Season-to-date totals from ingested box scores; players with no
+            // stored games yet fall back to the basic calculation
+            long[] totals = run.totalsFor(player.getPlayerId(),
+                    playerId -> playerStatService.seasonTotals(playerId, run.getStatsDate()));
+            double score = totals != null ? weights.score(totals) : calculateScoreFromPlayer(player);
 
             log.debug("Calculated score for player: {} = {}", playerName, score);
             return score;
@@ -170,6 +365,40 @@ public class ScoreService {
         }
     }
 
+    /**
+     * Resolve a pick to a player of the run's catalog
+     * Picks are resolved by their stored ID; picks without one, with a synthetic ID from the bundled
+     * list (made before the API catalog loaded), or with an ID the catalog no longer has are resolved by
+     * name instead. A name match with a SportsBlaze ID is written back to the pick (with the surrounding
+     * transaction), so stat deltas reach it from then on.
+     * @return The player, or null if neither the ID nor the name identifies one
+     */
+    private NBAPlayerDTO resolvePick(ScoringRun run, DraftPick pick) {
+        String storedId = pick.getNbaPlayerId();
+        if (storedId != null && !LocalPlayerCsvParser.isLocalId(storedId)) {
+            NBAPlayerDTO byId = run.getCatalog().findById(storedId);
+            if (byId != null) {
+                return byId;
+            }
+        }
+
+        NBAPlayerDTO byName = nbaPlayerService.resolvePlayer(run.getCatalog(), pick.getPlayerName());
+        if (byName == null || byName.getPlayerId() == null || byName.getPlayerId().equals(storedId)
+                || LocalPlayerCsvParser.isLocalId(byName.getPlayerId())) {
+            return byName;
+        }
+        if (pick.getDraft() != null
+                && draftPickRepository.existsByDraftIdAndNbaPlayerId(pick.getDraft().getId(), byName.getPlayerId())) {
+            log.warn("Pick {} ({}) resolves to player {}, already drafted under that ID; keeping stored ID {}",
+                    pick.getId(), pick.getPlayerName(), byName.getPlayerId(), storedId);
+            return byName;
+        }
+        log.info("Re-linking pick {} ({}) from player ID {} to {}",
+                pick.getId(), pick.getPlayerName(), storedId, byName.getPlayerId());
+        pick.setNbaPlayerId(byName.getPlayerId());
+        return byName;
+    }
+
     /**
      * Calculate fantasy score from player stats
      * This is a simplified calculation based on available data
@@ -196,79 +425,168 @@ public class ScoreService {
     }
 
     /**
-     * Publish score update events to Kafka
+     * Publish a league's ranked scoreboard to Kafka as one snapshot event
+     * Once the surrounding transaction commits, the scores are applied to the league's in-memory
+     * leaderboard and the snapshot is read from it in rank order; scores that roll back are never
+     * ranked or announced, and the broker round trip stays out of the transaction
      * @param league The league
-     * @param scoreMap Map of scores
+     * @param scoreMap Every user's current score in the league
      */
     private void publishScoresToKafka(League league, Map<Long, ScoreCalculation> scoreMap) {
         if (scoreMap.isEmpty()) {
             return;
         }
+        List<ScoreCalculationDTO> scores = scoreMap.values().stream()
+                .map(ScoreCalculationDTO::fromEntity)
+                .toList();
+        Long leagueId = league.getId();
+        String leagueName = league.getName();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishScoreboard(leagueId, leagueName, scores);
+                }
+            });
+        } else {
+            publishScoreboard(leagueId, leagueName, scores);
+        }
+    }
 
-        // Sort scores by total score descending for ranking
-        List<ScoreCalculation> rankedScores = scoreMap.values().stream()
-                .sorted(Comparator.comparingDouble(ScoreCalculation::getTotalScore).reversed())
-                .collect(Collectors.toList());
-
-        // Publish each score with ranking
-        for (int i = 0; i < rankedScores.size(); i++) {
-            ScoreCalculation score = rankedScores.get(i);
-            int rank = i + 1;
-
-            ScoreUpdateEvent event = ScoreUpdateEvent.builder()
-                    .eventId(UUID.randomUUID().toString())
-                    .leagueId(league.getId())
-                    .leagueName(league.getName())
-                    .userId(score.getUser().getId())
-                    .username(score.getUser().getUsername())
-                    .totalScore(score.getTotalScore())
-                    .averageScore(score.getAverageScore())
-                    .playersEvaluated(score.getPlayersEvaluated())
-                    .rank(rank)
-                    .calculatedAt(score.getCalculatedAt())
-                    .timestamp(LocalDateTime.now())
-                    .eventType("LEAGUE_SCORES_UPDATED")
-                    .build();
-
-            try {
-                scoreUpdateKafkaTemplate.send(KafkaConfig.LEAGUE_SCORES_TOPIC,
-                        league.getId() + "-" + score.getUser().getId(),
-                        event);
-                log.debug("Published score update to Kafka: {} - {}", league.getName(), score.getUser().getUsername());
-            } catch (Exception e) {
-                log.error("Error publishing score update to Kafka", e);
-            }
+    /**
+     * Drop a user who left a league from its scoreboard
+     * The projection row goes with the surrounding transaction; once it commits the user is removed
+     * from this node's leaderboard and the remaining ranking is published, which removes them on the
+     * other nodes and refreshes connected clients
+     * @param league The league
+     * @param userId The departing user's ID
+     */
+    public void removeFromScoreboard(League league, Long userId) {
+        leagueScoreboardRepository.deleteByLeagueIdAndUserId(league.getId(), userId);
+        Long leagueId = league.getId();
+        String leagueName = league.getName();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    leaderboardService.remove(leagueId, userId);
+                    publishScoreboard(leagueId, leagueName, List.of());
+                }
+            });
+        } else {
+            leaderboardService.remove(leagueId, userId);
+            publishScoreboard(leagueId, leagueName, List.of());
+        }
+    }
+
+    /**
+     * Rank committed scores on the league's leaderboard and send the resulting snapshot
+     */
+    private void publishScoreboard(Long leagueId, String leagueName, List<ScoreCalculationDTO> scores) {
+        leaderboardService.apply(scores);
+
+        List<LeagueScoreboardSnapshotEvent.RankedScore> ranking = leaderboardService
+                .ranking(leagueId, 0, Integer.MAX_VALUE).stream()
+                .map(score -> LeagueScoreboardSnapshotEvent.RankedScore.builder()
+                        .rank(score.getRank())
+                        .userId(score.getUserId())
+                        .username(score.getUsername())
+                        .totalScore(score.getTotalScore())
+                        .averageScore(score.getAverageScore())
+                        .playersEvaluated(score.getPlayersEvaluated())
+                        .calculatedAt(score.getCalculatedAt())
+                        .build())
+                .toList();
+
+        sendScoreboardSnapshot(LeagueScoreboardSnapshotEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType(LeagueScoreboardSnapshotEvent.SNAPSHOT)
+                .leagueId(leagueId)
+                .leagueName(leagueName)
+                .scores(ranking)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Hand a snapshot to the producer without waiting for the broker; the outcome is logged from the callback
+     */
+    private void sendScoreboardSnapshot(LeagueScoreboardSnapshotEvent event) {
+        try {
+            leagueScoreboardKafkaTemplate.send(KafkaConfig.LEAGUE_SCOREBOARD_TOPIC, String.valueOf(event.getLeagueId()), event)
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.error("Error publishing scoreboard snapshot for league: {}", event.getLeagueName(), e);
+                        } else {
+                            log.debug("Published scoreboard snapshot for league: {} ({} users, offset {})",
+                                    event.getLeagueName(), event.getScores().size(), result.getRecordMetadata().offset());
+                        }
+                    });
+        } catch (Exception e) {
+            log.error("Error publishing scoreboard snapshot to Kafka", e);
         }
     }
 
     /**
      * Get latest scores for a league
      * @param leagueId The league ID
-     * @return List of scores ordered by ranking
+     * @return List of scores ordered by ranking, with ranks set
      */
-    @Transactional(readOnly = true)
-    public List<ScoreCalculation> getLeagueScoreboard(Long leagueId) {
-        return scoreCalculationRepository.findLatestLeagueScoresOrdered(leagueId);
+    public List<ScoreCalculationDTO> getLeagueScoreboard(Long leagueId) {
+        return getLeagueScoreboard(leagueId, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get the top scores of a league
+     * @param leagueId The league ID
+     * @param limit Maximum scores returned
+     * @return List of scores ordered by ranking, with ranks set
+     */
+    public List<ScoreCalculationDTO> getLeagueScoreboard(Long leagueId, int limit) {
+        return leaderboardService.ranking(leagueId, 0, limit);
     }
 
     /**
      * Get user's score in a league
      * @param leagueId The league ID
      * @param userId The user ID
-     * @return User's latest score
+     * @return User's latest score, with its rank set
      */
-    @Transactional(readOnly = true)
-    public Optional<ScoreCalculation> getUserScore(Long leagueId, Long userId) {
-        return scoreCalculationRepository.findFirstByLeagueIdAndUserIdOrderByCalculatedAtDesc(leagueId, userId);
+    public Optional<ScoreCalculationDTO> getUserScore(Long leagueId, Long userId) {
+        return leaderboardService.rankOf(leagueId, userId);
     }
 
     /**
-     * Check if scores have been calculated for a league today
+     * Check if a league has ever been scored
      * @param leagueId The league ID
-     * @return true if scores already calculated today
+     * @return true if the league has at least one score
      */
     @Transactional(readOnly = true)
-    public boolean scoresCalculatedToday(Long leagueId) {
-        return scoreCalculationRepository.countScoresCalculatedToday(leagueId) > 0;
+    public boolean hasScores(Long leagueId) {
+        return scoreCalculationRepository.existsByLeagueId(leagueId);
+    }
+
+    /**
+     * IDs of every league whose scores are current for a run date without a full rescore
+     * A league qualifies when its last full scoring has had the stat deltas of every game date
+     * since applied on top (dates missed by the nightly ingest break the chain), and no pick was
+     * made and no member joined after that scoring
+     * @param runDate The daily job's run date (stats through the previous day)
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> incrementallyCurrentLeagueIds(LocalDate runDate) {
+        LocalDate last = runDate.minusDays(1);
+        Set<LocalDate> applied = jobClaimService.claimedDates(STAT_DELTAS_JOB, runDate.minusDays(MAX_INCREMENTAL_DAYS), last);
+        LocalDate since = runDate;
+        while (applied.contains(since.minusDays(1))) {
+            since = since.minusDays(1);
+        }
+        if (!since.isBefore(runDate)) {
+            return Set.of();
+        }
+        // Scored on `since` or later: stats through the day before, plus deltas for every day after
+        return scoringLedgerService.unchangedLeagueIdsScoredSince(since);
     }
 }
@@ -0,0 +1,125 @@
+package com.courtvision.service;
+
+import com.courtvision.catalog.LocalPlayerCsvParser;
+import com.courtvision.entity.LeagueScoringRun;
+import com.courtvision.entity.LeagueScoringRun.RunStatus;
+import com.courtvision.repository.LeagueRepository;
+import com.courtvision.repository.LeagueScoringRunRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Service for the scoring_runs ledger: which leagues have been scored for a run date, with status and timing
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScoringLedgerService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final LeagueScoringRunRepository leagueScoringRunRepository;
+    private final LeagueRepository leagueRepository;
+
+    /**
+     * IDs of every league already scored for a run date
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> completedLeagueIds(LocalDate runDate) {
+        return leagueScoringRunRepository.findLeagueIdsByRunDateAndStatus(runDate, RunStatus.COMPLETED);
+    }
+
+    /**
+     * IDs of every league fully scored on or after a date whose picks and members have not changed since
+     * Leagues holding picks not yet linked to a SportsBlaze player are left out, since stat deltas do not reach them
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> unchangedLeagueIdsScoredSince(LocalDate since) {
+        return leagueScoringRunRepository.findUnchangedLeagueIdsScoredSince(since, RunStatus.COMPLETED,
+                LocalPlayerCsvParser.LOCAL_ID_PREFIX + "%");
+    }
+
+    /**
+     * Check if a league has been scored for a run date
+     */
+    @Transactional(readOnly = true)
+    public boolean isCompleted(Long leagueId, LocalDate runDate) {
+        return leagueScoringRunRepository.existsByLeagueIdAndRunDateAndStatus(leagueId, runDate, RunStatus.COMPLETED);
+    }
+
+    /**
+     * Record an attempt at scoring a league, in its own transaction so it survives a failed or crashed attempt
+     * @param leagueId The league ID
+     * @param runDate The run date
+     * @param runId ID of the scoring pass making the attempt
+     */
+    @Transactional
+    public void markStarted(Long leagueId, LocalDate runDate, String runId) {
+        LeagueScoringRun entry = findOrCreate(leagueId, runDate);
+        entry.setRunId(runId);
+        entry.setStatus(RunStatus.RUNNING);
+        entry.setAttempts(entry.getAttempts() + 1);
+        entry.setStartedAt(LocalDateTime.now());
+        entry.setCompletedAt(null);
+        entry.setDurationMs(null);
+        entry.setErrorMessage(null);
+        leagueScoringRunRepository.save(entry);
+    }
+
+    /**
+     * Record a league as scored
+     * Joins the caller's transaction, so the entry commits (or rolls back) with the scores themselves
+     * @param leagueId The league ID
+     * @param runDate The run date
+     * @param runId ID of the scoring pass
+     * @param usersScored Number of user scores written
+     */
+    @Transactional
+    public void markCompleted(Long leagueId, LocalDate runDate, String runId, int usersScored) {
+        LeagueScoringRun entry = findOrCreate(leagueId, runDate);
+        LocalDateTime now = LocalDateTime.now();
+        if (entry.getStartedAt() == null) {
+            // Scored without a recorded attempt (e.g. a manual recalculation)
+            entry.setAttempts(entry.getAttempts() + 1);
+            entry.setStartedAt(now);
+        }
+        entry.setRunId(runId);
+        entry.setStatus(RunStatus.COMPLETED);
+        entry.setUsersScored(usersScored);
+        entry.setCompletedAt(now);
+        entry.setDurationMs(Duration.between(entry.getStartedAt(), now).toMillis());
+        entry.setErrorMessage(null);
+        leagueScoringRunRepository.save(entry);
+    }
+
+    /**
+     * Record a failed attempt at scoring a league
+     */
+    @Transactional
+    public void markFailed(Long leagueId, LocalDate runDate, Exception error) {
+        LeagueScoringRun entry = findOrCreate(leagueId, runDate);
+        String message = String.valueOf(error.getMessage());
+        entry.setStatus(RunStatus.FAILED);
+        entry.setCompletedAt(LocalDateTime.now());
+        if (entry.getStartedAt() != null) {
+            entry.setDurationMs(Duration.between(entry.getStartedAt(), entry.getCompletedAt()).toMillis());
+        }
+        entry.setErrorMessage(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+        leagueScoringRunRepository.save(entry);
+    }
+
+    private LeagueScoringRun findOrCreate(Long leagueId, LocalDate runDate) {
+        return leagueScoringRunRepository.findByLeagueIdAndRunDate(leagueId, runDate)
+                .orElseGet(() -> LeagueScoringRun.builder()
+                        .league(leagueRepository.getReferenceById(leagueId))
+                        .runDate(runDate)
+                        .build());
+    }
+}
@@ -0,0 +1,83 @@
+package com.courtvision.service;
+
+import com.courtvision.catalog.PlayerCatalog;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * One scoring pass over any number of leagues
+ *
+ * Pins the catalog snapshot and the stats date for the whole pass and memoizes each player's
+ * season stat totals by NBA player ID, so a player drafted in many leagues is summed once per run
+ * and every league after the first reads the table; each league then applies its own scoring
+ * weights to the totals. Safe to share between threads.
+ */
+public class ScoringRun {
+
+    // Marks a player with no stored games (the map cannot hold null)
+    private static final long[] NO_GAMES = new long[0];
+
+    // Shared by every node working on the same pass; recorded in the scoring_runs ledger
+    @Getter
+    private final String runId;
+
+    @Getter
+    private final LocalDate statsDate;
+
+    @Getter
+    private final PlayerCatalog catalog;
+
+    private final Map<String, long[]> totalsByPlayerId = new ConcurrentHashMap<>();
+
+    private final LongAdder lookups = new LongAdder();
+
+    /**
+     * The run ID shared by every node scoring a stats date in distributed mode
+     */
+    public static String idFor(LocalDate statsDate) {
+        return "scoring-" + statsDate;
+    }
+
+    ScoringRun(String runId, LocalDate statsDate, PlayerCatalog catalog) {
+        this.runId = runId;
+        this.statsDate = statsDate;
+        this.catalog = catalog;
+    }
+
+    /**
+     * Stat totals for a player, computed at most once per run
+     * @param playerId NBA player ID
+     * @param compute Computes the totals on the first lookup (null when the player has no games)
+     * @return The totals, or null if the player has no games
+     */
+    long[] totalsFor(String playerId, Function<String, long[]> compute) {
+        lookups.increment();
+        if (playerId == null) {
+            return null;
+        }
+        long[] totals = totalsByPlayerId.computeIfAbsent(playerId, id -> {
+            long[] computed = compute.apply(id);
+            return computed != null ? computed : NO_GAMES;
+        });
+        return totals == NO_GAMES ? null : totals;
+    }
+
+    /**
+     * Number of distinct players scored so far
+     */
+    public int playersScored() {
+        return totalsByPlayerId.size();
+    }
+
+    /**
+     * Number of point lookups so far (picks scored, across all leagues)
+     */
+    public long pickLookups() {
+        return lookups.sum();
+    }
+}
@@ -0,0 +1,172 @@
+package com.courtvision.stats;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming parser for the SportsBlaze daily box scores payload
+ *
+ * Reads token by token straight into stat lines; game metadata, team totals and stats the store
+ * does not track are skipped without being materialized.
+ *
+ * Expected shape:
+ * {"games": [{"players": [{"player_id": "...", "stats": {"points": 31, "rebounds": 8, ...}}, ...]}, ...]}
+ * The player ID may also be nested ({"player": {"id": "..."}, "stats": {...}}).
+ * Stat fields also accept the long forms used in some feeds (total_rebounds, personal_fouls, ...),
+ * and players may be nested under per-team objects ({"teams": [{"players": [...]}]}).
+ */
+public class BoxScoreParser {
+
+    private final JsonFactory jsonFactory;
+
+    public BoxScoreParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * Parse one day of box scores
+     * @param body The response stream (closed once parsing completes)
+     * @return Stat lines of every player who appeared in a game
+     * @throws IOException if the body is not valid JSON
+     */
+    public List<StatLine> parse(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            List<StatLine> lines = new ArrayList<>();
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                readContainer(parser, lines);
+            }
+            return lines;
+        }
+    }
+
+    /**
+     * Walk an object, descending into "games"/"teams" arrays and reading "players" arrays
+     */
+    private void readContainer(JsonParser parser, List<StatLine> lines) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "games", "teams", "data" -> readArray(parser, lines, false);
+                case "players" -> readArray(parser, lines, true);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void readArray(JsonParser parser, List<StatLine> lines, boolean players) throws IOException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+            } else if (players) {
+                StatLine line = readPlayer(parser);
+                if (line != null) {
+                    lines.add(line);
+                }
+            } else {
+                readContainer(parser, lines);
+            }
+        }
+    }
+
+    private StatLine readPlayer(JsonParser parser) throws IOException {
+        StatLine line = new StatLine();
+        boolean hasStats = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "player_id", "id" -> line.setPlayerId(parser.getValueAsString());
+                case "player" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        readPlayerRef(parser, line);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                case "stats" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        readStats(parser, line);
+                        hasStats = true;
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return line.getPlayerId() != null && hasStats ? line : null;
+    }
+
+    /**
+     * Player reference nested as {"player": {"id": "...", ...}}
+     */
+    private void readPlayerRef(JsonParser parser, StatLine line) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value != JsonToken.VALUE_NULL && (field.equals("id") || field.equals("player_id"))) {
+                line.setPlayerId(parser.getValueAsString());
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readStats(JsonParser parser, StatLine line) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "points" -> line.setPoints(parser.getValueAsInt());
+                case "rebounds", "total_rebounds" -> line.setRebounds(parser.getValueAsInt());
+                case "assists" -> line.setAssists(parser.getValueAsInt());
+                case "steals" -> line.setSteals(parser.getValueAsInt());
+                case "blocks", "blocked_shots" -> line.setBlocks(parser.getValueAsInt());
+                case "turnovers" -> line.setTurnovers(parser.getValueAsInt());
+                case "fouls", "personal_fouls" -> line.setFouls(parser.getValueAsInt());
+                case "minutes" -> line.setMinutes(readMinutes(parser));
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Minutes arrive either as a number or as "MM:SS"
+     */
+    private static float readMinutes(JsonParser parser) throws IOException {
+        if (parser.currentToken().isNumeric()) {
+            return parser.getFloatValue();
+        }
+        String text = parser.getValueAsString();
+        if (text == null || text.isBlank()) {
+            return 0f;
+        }
+        try {
+            int colon = text.indexOf(':');
+            if (colon < 0) {
+                return Float.parseFloat(text);
+            }
+            return Integer.parseInt(text.substring(0, colon).trim())
+                    + Integer.parseInt(text.substring(colon + 1).trim()) / 60f;
+        } catch (NumberFormatException e) {
+            return 0f;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.courtvision.stats;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory store of per-game player stat lines for one season
+ *
+ * Values live in primitive columns, one int[] per {@link Stat} plus a float[] for minutes and a
+ * byte[] "played" flag, all indexed by {@code playerOrdinal * seasonDays + gameDay}. A player's
+ * season is therefore one contiguous run in every column, and scoring a player over a date range
+ * is a handful of tight int-summing loops with no boxing or per-line objects.
+ *
+ * Player ordinals are assigned by the store the first time a player ID is seen, so they are stable
+ * across catalog refreshes. Writes are copy-on-write: each ingested batch builds new columns and
+ * publishes them with a single volatile write, so readers never lock and always see whole days.
+ */
+public final class PlayerStatStore {
+
+    private static final int STAT_COUNT = Stat.values().length;
+    private static final int INITIAL_PLAYER_CAPACITY = 512;
+
+    private final LocalDate seasonStart;
+    private final int seasonDays;
+
+    private volatile Columns columns;
+
+    /**
+     * @param seasonStart First game-day of the season (day index 0)
+     * @param seasonDays Number of game-days tracked from the season start
+     */
+    public PlayerStatStore(LocalDate seasonStart, int seasonDays) {
+        if (seasonDays <= 0) {
+            throw new IllegalArgumentException("seasonDays must be positive");
+        }
+        this.seasonStart = seasonStart;
+        this.seasonDays = seasonDays;
+        this.columns = Columns.empty(seasonDays);
+    }
+
+    public LocalDate getSeasonStart() {
+        return seasonStart;
+    }
+
+    /**
+     * Last date the store can hold
+     */
+    public LocalDate getSeasonEnd() {
+        return seasonStart.plusDays(seasonDays - 1L);
+    }
+
+    /**
+     * Replace the stat lines of one or more game-days
+     * Days outside the season are ignored. A day that is re-ingested has its previous lines cleared
+     * first, so corrections from the upstream box scores simply overwrite.
+     * @param linesByDay Stat lines keyed by game date
+     * @return Lines stored, and the stat deltas of every player whose stored stats changed
+     */
+    public synchronized StatUpdate apply(Map<LocalDate, List<StatLine>> linesByDay) {
+        Columns previous = columns;
+        Columns next = previous.copy();
+        int stored = 0;
+        BitSet touchedDays = new BitSet(seasonDays);
+        for (Map.Entry<LocalDate, List<StatLine>> entry : linesByDay.entrySet()) {
+            int day = dayIndex(entry.getKey());
+            if (day < 0) {
+                continue;
+            }
+            next.clearDay(day);
+            for (StatLine line : entry.getValue()) {
+                if (line.getPlayerId() == null) {
+                    continue;
+                }
+                next.put(next.ordinalFor(line.getPlayerId()), day, line);
+                stored++;
+            }
+            next.ingestedDays.set(day);
+            touchedDays.set(day);
+        }
+        Map<String, StatUpdate.PlayerDelta> deltas = diff(previous, next, touchedDays);
+        columns = next;
+        return new StatUpdate(stored, deltas);
+    }
+
+    /**
+     * Per-player differences between two versions over the touched days
+     */
+    private Map<String, StatUpdate.PlayerDelta> diff(Columns previous, Columns next, BitSet touchedDays) {
+        int previousPlayers = previous.ordinals.size();
+        long[][] deltaByOrdinal = new long[next.ordinals.size()][];
+        for (int day = touchedDays.nextSetBit(0); day >= 0; day = touchedDays.nextSetBit(day + 1)) {
+            for (int ordinal = 0; ordinal < deltaByOrdinal.length; ordinal++) {
+                int index = ordinal * seasonDays + day;
+                boolean known = ordinal < previousPlayers;
+                if (next.played[index] == (known ? previous.played[index] : 0) && sameStats(previous, next, index, known)) {
+                    continue;
+                }
+                long[] delta = deltaByOrdinal[ordinal];
+                if (delta == null) {
+                    delta = new long[STAT_COUNT];
+                    deltaByOrdinal[ordinal] = delta;
+                }
+                for (int stat = 0; stat < STAT_COUNT; stat++) {
+                    delta[stat] += next.stats[stat][index] - (known ? previous.stats[stat][index] : 0);
+                }
+            }
+        }
+
+        Map<String, StatUpdate.PlayerDelta> deltas = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : next.ordinals.entrySet()) {
+            int ordinal = entry.getValue();
+            if (deltaByOrdinal[ordinal] == null) {
+                continue;
+            }
+            int gamesBefore = ordinal < previousPlayers ? previous.games(ordinal) : 0;
+            deltas.put(entry.getKey(), new StatUpdate.PlayerDelta(deltaByOrdinal[ordinal], gamesBefore, next.games(ordinal)));
+        }
+        return deltas;
+    }
+
+    private static boolean sameStats(Columns previous, Columns next, int index, boolean known) {
+        for (int stat = 0; stat < STAT_COUNT; stat++) {
+            if (next.stats[stat][index] != (known ? previous.stats[stat][index] : 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Per-stat totals for a player over a date range (inclusive)
+     * Score the totals with {@link ScoringWeights#score(long[])}; one set of totals serves any number of profiles
+     * @param playerId NBA player ID
+     * @param from First date (clamped to the season)
+     * @param to Last date (clamped to the season)
+     * @return Totals indexed by {@link Stat#ordinal()}, or null if the player has no games in the range
+     */
+    public long[] totals(String playerId, LocalDate from, LocalDate to) {
+        Columns snapshot = columns;
+        Integer ordinal = snapshot.ordinals.get(playerId);
+        if (ordinal == null) {
+            return null;
+        }
+        int start = Math.max(0, (int) ChronoUnit.DAYS.between(seasonStart, from));
+        int end = Math.min(seasonDays - 1, (int) ChronoUnit.DAYS.between(seasonStart, to));
+        if (start > end) {
+            return null;
+        }
+
+        int base = ordinal * seasonDays;
+        int first = base + start;
+        int last = base + end;
+
+        int games = 0;
+        byte[] played = snapshot.played;
+        for (int i = first; i <= last; i++) {
+            games += played[i];
+        }
+        if (games == 0) {
+            return null;
+        }
+
+        long[] totals = new long[STAT_COUNT];
+        for (int stat = 0; stat < STAT_COUNT; stat++) {
+            int[] column = snapshot.stats[stat];
+            long sum = 0;
+            for (int i = first; i <= last; i++) {
+                sum += column[i];
+            }
+            totals[stat] = sum;
+        }
+        return totals;
+    }
+
+    /**
+     * Games played by a player over a date range (inclusive)
+     */
+    public int gamesPlayed(String playerId, LocalDate from, LocalDate to) {
+        Columns snapshot = columns;
+        Integer ordinal = snapshot.ordinals.get(playerId);
+        if (ordinal == null) {
+            return 0;
+        }
+        int start = Math.max(0, (int) ChronoUnit.DAYS.between(seasonStart, from));
+        int end = Math.min(seasonDays - 1, (int) ChronoUnit.DAYS.between(seasonStart, to));
+        int games = 0;
+        for (int i = ordinal * seasonDays + start; i <= ordinal * seasonDays + end; i++) {
+            games += snapshot.played[i];
+        }
+        return games;
+    }
+
+    /**
+     * Whether box scores for a date have been ingested
+     */
+    public boolean hasDay(LocalDate date) {
+        int day = dayIndex(date);
+        return day >= 0 && columns.ingestedDays.get(day);
+    }
+
+    /**
+     * Number of players with at least one stored line
+     */
+    public int playerCount() {
+        return columns.ordinals.size();
+    }
+
+    /**
+     * Total stored stat lines
+     */
+    public int lineCount() {
+        Columns snapshot = columns;
+        int lines = 0;
+        for (int i = 0; i < snapshot.ordinals.size() * seasonDays; i++) {
+            lines += snapshot.played[i];
+        }
+        return lines;
+    }
+
+    private int dayIndex(LocalDate date) {
+        long day = ChronoUnit.DAYS.between(seasonStart, date);
+        return day < 0 || day >= seasonDays ? -1 : (int) day;
+    }
+
+    /**
+     * One published version of the columns
+     */
+    private static final class Columns {
+
+        private final int seasonDays;
+        private final Map<String, Integer> ordinals;
+        private int[][] stats;
+        private float[] minutes;
+        private byte[] played;
+        private final BitSet ingestedDays;
+
+        private Columns(int seasonDays, Map<String, Integer> ordinals, int[][] stats, float[] minutes,
+                        byte[] played, BitSet ingestedDays) {
+            this.seasonDays = seasonDays;
+            this.ordinals = ordinals;
+            this.stats = stats;
+            this.minutes = minutes;
+            this.played = played;
+            this.ingestedDays = ingestedDays;
+        }
+
+        static Columns empty(int seasonDays) {
+            int cells = INITIAL_PLAYER_CAPACITY * seasonDays;
+            int[][] stats = new int[STAT_COUNT][];
+            for (int stat = 0; stat < STAT_COUNT; stat++) {
+                stats[stat] = new int[cells];
+            }
+            return new Columns(seasonDays, new HashMap<>(), stats, new float[cells], new byte[cells], new BitSet(seasonDays));
+        }
+
+        Columns copy() {
+            int[][] statsCopy = new int[STAT_COUNT][];
+            for (int stat = 0; stat < STAT_COUNT; stat++) {
+                statsCopy[stat] = stats[stat].clone();
+            }
+            return new Columns(seasonDays, new HashMap<>(ordinals), statsCopy, minutes.clone(), played.clone(),
+                    (BitSet) ingestedDays.clone());
+        }
+
+        int ordinalFor(String playerId) {
+            Integer existing = ordinals.get(playerId);
+            if (existing != null) {
+                return existing;
+            }
+            int ordinal = ordinals.size();
+            ensureCapacity(ordinal + 1);
+            ordinals.put(playerId, ordinal);
+            return ordinal;
+        }
+
+        void put(int ordinal, int day, StatLine line) {
+            int index = ordinal * seasonDays + day;
+            for (Stat stat : Stat.values()) {
+                stats[stat.ordinal()][index] = line.get(stat);
+            }
+            minutes[index] = line.getMinutes();
+            played[index] = 1;
+        }
+
+        int games(int ordinal) {
+            int games = 0;
+            for (int i = ordinal * seasonDays; i < (ordinal + 1) * seasonDays; i++) {
+                games += played[i];
+            }
+            return games;
+        }
+
+        void clearDay(int day) {
+            for (int ordinal = 0; ordinal < ordinals.size(); ordinal++) {
+                int index = ordinal * seasonDays + day;
+                for (int stat = 0; stat < STAT_COUNT; stat++) {
+                    stats[stat][index] = 0;
+                }
+                minutes[index] = 0f;
+                played[index] = 0;
+            }
+        }
+
+        private void ensureCapacity(int players) {
+            int cells = players * seasonDays;
+            if (cells <= played.length) {
+                return;
+            }
+            int newCells = Math.max(cells, played.length * 2);
+            for (int stat = 0; stat < STAT_COUNT; stat++) {
+                stats[stat] = Arrays.copyOf(stats[stat], newCells);
+            }
+            minutes = Arrays.copyOf(minutes, newCells);
+            played = Arrays.copyOf(played, newCells);
+        }
+    }
+}
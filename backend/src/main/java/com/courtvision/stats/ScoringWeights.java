@@ -0,0 +1,62 @@
+package com.courtvision.stats;
+
+import java.util.Arrays;
+
+/**
+ * A compiled scoring profile: fantasy points per unit of each stat, indexed by {@link Stat#ordinal()}
+ *
+ * Scoring a player is a straight dot product of these weights with the player's stat totals, with
+ * no per-category branches and no allocation. Equal profiles compile to equal weights, so a
+ * ScoringWeights can key per-profile caches.
+ */
+public final class ScoringWeights {
+
+    private static final int STAT_COUNT = Stat.values().length;
+
+    private final double[] weights;
+
+    private ScoringWeights(double[] weights) {
+        this.weights = weights;
+    }
+
+    /**
+     * @param weights One weight per stat, indexed by Stat ordinal (copied)
+     */
+    public static ScoringWeights of(double[] weights) {
+        if (weights.length != STAT_COUNT) {
+            throw new IllegalArgumentException("Expected " + STAT_COUNT + " weights, got " + weights.length);
+        }
+        return new ScoringWeights(weights.clone());
+    }
+
+    /**
+     * Fantasy points for a set of stat totals
+     * @param totals Stat totals indexed by Stat ordinal
+     */
+    public double score(long[] totals) {
+        double score = 0.0;
+        for (int stat = 0; stat < STAT_COUNT; stat++) {
+            score += weights[stat] * totals[stat];
+        }
+        return score;
+    }
+
+    public double weight(Stat stat) {
+        return weights[stat.ordinal()];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ScoringWeights other && Arrays.equals(weights, other.weights);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(weights);
+    }
+
+    @Override
+    public String toString() {
+        return "ScoringWeights" + Arrays.toString(weights);
+    }
+}
@@ -0,0 +1,15 @@
+package com.courtvision.stats;
+
+/**
+ * Box-score categories tracked per game
+ * The ordinal doubles as the index into stat columns and scoring weight vectors
+ */
+public enum Stat {
+    POINTS,
+    REBOUNDS,
+    ASSISTS,
+    STEALS,
+    BLOCKS,
+    TURNOVERS,
+    FOULS
+}
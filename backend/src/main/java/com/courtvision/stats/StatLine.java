@@ -0,0 +1,42 @@
+package com.courtvision.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One player's box-score line for one game
+ * Only used while ingesting; the store keeps the values in primitive columns
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatLine {
+
+    private String playerId;
+    private int points;
+    private int rebounds;
+    private int assists;
+    private int steals;
+    private int blocks;
+    private int turnovers;
+    private int fouls;
+    private float minutes;
+
+    /**
+     * Value of a counting stat
+     */
+    public int get(Stat stat) {
+        return switch (stat) {
+            case POINTS -> points;
+            case REBOUNDS -> rebounds;
+            case ASSISTS -> assists;
+            case STEALS -> steals;
+            case BLOCKS -> blocks;
+            case TURNOVERS -> turnovers;
+            case FOULS -> fouls;
+        };
+    }
+}
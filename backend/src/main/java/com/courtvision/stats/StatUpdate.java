@@ -0,0 +1,52 @@
+package com.courtvision.stats;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Result of applying box scores to the {@link PlayerStatStore}
+ * Carries the per-player stat deltas so scores can be adjusted for just the players that changed
+ */
+@Getter
+public class StatUpdate {
+
+    /**
+     * An update that changed nothing
+     */
+    public static final StatUpdate EMPTY = new StatUpdate(0, Map.of());
+
+    private final int linesStored;
+
+    // Only players whose stored stats actually changed
+    private final Map<String, PlayerDelta> deltas;
+
+    public StatUpdate(int linesStored, Map<String, PlayerDelta> deltas) {
+        this.linesStored = linesStored;
+        this.deltas = deltas;
+    }
+
+    public boolean isEmpty() {
+        return deltas.isEmpty();
+    }
+
+    /**
+     * Change to one player's season totals
+     */
+    @Getter
+    public static class PlayerDelta {
+
+        // New minus old totals, indexed by Stat ordinal
+        private final long[] totals;
+
+        // Season games stored before and after the update
+        private final int gamesBefore;
+        private final int gamesAfter;
+
+        public PlayerDelta(long[] totals, int gamesBefore, int gamesAfter) {
+            this.totals = totals;
+            this.gamesBefore = gamesBefore;
+            this.gamesAfter = gamesAfter;
+        }
+    }
+}
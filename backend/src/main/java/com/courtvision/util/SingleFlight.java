@@ -0,0 +1,66 @@
+package com.courtvision.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent executions of the same call
+ * While a call is in flight, every other caller joins its future instead of starting
+ * another one, so N concurrent misses cost one upstream request and one parse
+ *
+ * @param <T> Result type of the call
+ */
+public class SingleFlight<T> {
+
+    private final AtomicReference<CompletableFuture<T>> inFlight = new AtomicReference<>();
+
+    /**
+     * Start the call on the executor, or join the one already in flight
+     * @param call The call to run
+     * @param executor Executor the call runs on
+     * @return Future shared by every caller of this flight
+     */
+    public CompletableFuture<T> execute(Supplier<T> call, Executor executor) {
+        while (true) {
+            CompletableFuture<T> existing = inFlight.get();
+            if (existing != null) {
+                return existing;
+            }
+
+            CompletableFuture<T> flight = new CompletableFuture<>();
+            if (!inFlight.compareAndSet(null, flight)) {
+                continue;
+            }
+
+            try {
+                executor.execute(() -> {
+                    T result;
+                    try {
+                        result = call.get();
+                    } catch (Throwable t) {
+                        inFlight.compareAndSet(flight, null);
+                        flight.completeExceptionally(t);
+                        return;
+                    }
+                    // Cleared first, so callers woken by completion that call again start a new flight
+                    inFlight.compareAndSet(flight, null);
+                    flight.complete(result);
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.compareAndSet(flight, null);
+                flight.completeExceptionally(e);
+            }
+            return flight;
+        }
+    }
+
+    /**
+     * Whether a call is currently in flight
+     */
+    public boolean isInFlight() {
+        return inFlight.get() != null;
+    }
+}
@@ -0,0 +1,127 @@
+package com.courtvision.catalog;
+
+import com.courtvision.dto.NBAPlayerDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Player Catalog Cache Tests")
+class PlayerCatalogCacheTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Concurrent cold misses share one load")
+    void testColdMissesShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        PlayerCatalog catalog = catalog("1");
+        PlayerCatalogCache cache = new PlayerCatalogCache(() -> {
+            loads.incrementAndGet();
+            await(release);
+            return catalog;
+        }, executor, 60_000, 60_000, 5_000);
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<PlayerCatalog>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(CompletableFuture.supplyAsync(cache::get, callers));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (CompletableFuture<PlayerCatalog> result : results) {
+                assertSame(catalog, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+        assertTrue(cache.isLoaded());
+    }
+
+    @Test
+    @DisplayName("A failed load keeps the previous snapshot and backs off")
+    void testFailedLoadKeepsSnapshot() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        PlayerCatalog seeded = catalog("1");
+        PlayerCatalogCache cache = new PlayerCatalogCache(() -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("upstream down");
+        }, executor, 60_000, 60_000, 1_000);
+        cache.put(seeded);
+
+        assertSame(seeded, cache.refreshAsync().get(5, TimeUnit.SECONDS));
+        assertSame(seeded, cache.refreshAsync().get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Empty loads are not cached and a later refresh loads again")
+    void testEmptyLoadNotCached() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        PlayerCatalog catalog = catalog("1");
+        PlayerCatalogCache cache = new PlayerCatalogCache(
+                () -> loads.incrementAndGet() == 1 ? PlayerCatalog.empty() : catalog,
+                executor, 60_000, 0, 1_000);
+
+        assertTrue(cache.get().isEmpty());
+        assertFalse(cache.isLoaded());
+        assertSame(catalog, cache.refreshAsync().get(5, TimeUnit.SECONDS));
+        assertSame(catalog, cache.get());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("An expired snapshot is served while the refresh runs in the background")
+    void testStaleWhileRevalidate() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PlayerCatalog stale = catalog("1");
+        PlayerCatalog fresh = catalog("2");
+        PlayerCatalogCache cache = new PlayerCatalogCache(() -> {
+            await(release);
+            return fresh;
+        }, executor, 1_000, 0, 1_000);
+        cache.put(stale, System.currentTimeMillis() - 5_000);
+
+        assertSame(stale, cache.get());
+        release.countDown();
+        assertSame(fresh, cache.refreshAsync().get(5, TimeUnit.SECONDS));
+        assertSame(fresh, cache.get());
+    }
+
+    private static PlayerCatalog catalog(String playerId) {
+        return PlayerCatalog.of(List.of(NBAPlayerDTO.builder()
+                .playerId(playerId)
+                .firstName("Player")
+                .lastName(playerId)
+                .build()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
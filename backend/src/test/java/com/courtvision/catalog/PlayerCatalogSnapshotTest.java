@@ -0,0 +1,72 @@
+package com.courtvision.catalog;
+
+import com.courtvision.dto.NBAPlayerDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Player Catalog Snapshot Tests")
+class PlayerCatalogSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("A snapshot round-trips its players and validators")
+    void testRoundTrip() throws IOException {
+        Path path = directory.resolve("catalog.bin");
+        PlayerCatalogSnapshot.write(path, catalog(), "\"v1\"", "Wed, 14 Jan 2026 00:00:00 GMT");
+
+        PlayerCatalogSnapshot snapshot = PlayerCatalogSnapshot.read(path);
+
+        assertEquals(catalog().getPlayers(), snapshot.getCatalog().getPlayers());
+        assertEquals("\"v1\"", snapshot.getETag());
+        assertEquals("Wed, 14 Jan 2026 00:00:00 GMT", snapshot.getLastModified());
+    }
+
+    @Test
+    @DisplayName("Touching a snapshot restamps its savedAt and leaves the rest as written")
+    void testTouch() throws Exception {
+        Path path = directory.resolve("catalog.bin");
+        PlayerCatalogSnapshot.write(path, catalog(), "\"v1\"", null);
+        long savedAt = PlayerCatalogSnapshot.read(path).getSavedAt();
+        Thread.sleep(5);
+
+        PlayerCatalogSnapshot.touch(path);
+
+        PlayerCatalogSnapshot touched = PlayerCatalogSnapshot.read(path);
+        assertTrue(touched.getSavedAt() > savedAt);
+        assertEquals(catalog().getPlayers(), touched.getCatalog().getPlayers());
+        assertEquals("\"v1\"", touched.getETag());
+    }
+
+    @Test
+    @DisplayName("Touching a file that is not a snapshot fails without changing it")
+    void testTouchRejectsOtherFiles() throws IOException {
+        Path path = directory.resolve("other.bin");
+        byte[] contents = "not a player catalog snapshot".getBytes();
+        Files.write(path, contents);
+
+        assertThrows(IOException.class, () -> PlayerCatalogSnapshot.touch(path));
+        assertArrayEquals(contents, Files.readAllBytes(path));
+        assertThrows(IOException.class, () -> PlayerCatalogSnapshot.touch(directory.resolve("missing.bin")));
+    }
+
+    private static PlayerCatalog catalog() {
+        return PlayerCatalog.of(List.of(
+                NBAPlayerDTO.builder().playerId("2544").firstName("LeBron").lastName("James")
+                        .position("SF").team("Los Angeles Lakers").salary(48_728_845.0).jerseyNumber(23).build(),
+                NBAPlayerDTO.builder().playerId("201939").firstName("Stephen").lastName("Curry")
+                        .position("PG").team("Golden State Warriors").build()));
+    }
+}
@@ -0,0 +1,121 @@
+package com.courtvision.catalog;
+
+import com.courtvision.dto.NBAPlayerDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Player Catalog Tests")
+class PlayerCatalogTest {
+
+    private static final List<NBAPlayerDTO> PLAYERS = List.of(
+            player("1", "LeBron", "James", "Los Angeles Lakers", "SF"),
+            player("2", "Stephen", "Curry", "Golden State Warriors", "PG"),
+            player("3", "Reggie", "Jackson", "Philadelphia 76ers", "PG"),
+            player("4", "Keldon", "Johnson", "San Antonio Spurs", "SF"),
+            player("5", "Nikola", "Jokić", "Denver Nuggets", "C"),
+            player("6", "Jalen", "Brunson", "New York Knicks", "PG"),
+            player("7", "Jalen", "Green", "Houston Rockets", "SG"),
+            player("8", "Jalen", "Williams", "Oklahoma City Thunder", "SG"),
+            player("9", "Victor", "Wembanyama", "San Antonio Spurs", "C"),
+            player("10", "Shai", "Gilgeous-Alexander", "Oklahoma City Thunder", "PG"),
+            player("11", "Dennis", "Schröder", "Sacramento Kings", "PG"),
+            player("12", "Jaren", "Jackson Jr.", "Memphis Grizzlies", "PF"));
+
+    private final PlayerCatalog catalog = PlayerCatalog.of(PLAYERS);
+
+    @Test
+    @DisplayName("Name search matches a term anywhere in the first, last or full name")
+    void testSearchByNameMatchesSubstrings() {
+        assertEquals(List.of("3", "4", "6", "12"), ids(catalog.searchByName("son")));
+        assertEquals(List.of("1"), ids(catalog.searchByName("bron j")));
+        assertEquals(List.of("4"), ids(catalog.searchByName("Keldon Johnson")));
+        assertEquals(List.of("5"), ids(catalog.searchByName("JOKIC")));
+        assertEquals(List.of("10"), ids(catalog.searchByName("gilgeous alex")));
+        assertTrue(catalog.searchByName("xyz").isEmpty());
+        assertTrue(catalog.searchByName("  ").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Name search returns exactly what a scan of every name returns, in catalog order")
+    void testSearchByNameAgreesWithScan() {
+        List<String> terms = List.of("j", "ja", "jal", "jalen", "en", "son", "on j", "n w", "ams",
+                "k", "ole", "jackson jr", "ander", "a", "e g", "vic", "yama", "sch", "roder", "zz");
+        for (String term : terms) {
+            assertEquals(scan(term), ids(catalog.searchByName(term)), "term: " + term);
+        }
+    }
+
+    @Test
+    @DisplayName("Fuzzy matching tolerates typos and resolves only unambiguous names")
+    void testMatchAndResolveByName() {
+        List<PlayerMatch> matches = catalog.matchByName("lebron jmaes", 3, 0.3);
+        assertEquals("1", matches.get(0).getPlayer().getPlayerId());
+
+        assertEquals("9", catalog.resolveByName("Wembanyama", 0.5, 0.1).getPlayer().getPlayerId());
+        assertEquals("2", catalog.resolveByName("Steph Curry", 0.5, 0.1).getPlayer().getPlayerId());
+        // Every Jalen scores the same, so the bare first name resolves to nobody
+        assertNull(catalog.resolveByName("Jalen", 0.3, 0.1));
+        assertNull(catalog.resolveByName("Michael Jordan", 0.5, 0.1));
+    }
+
+    @Test
+    @DisplayName("Secondary indexes find players by ID, team and position")
+    void testSecondaryIndexes() {
+        assertEquals("Curry", catalog.findById("2").getLastName());
+        assertNull(catalog.findById("missing"));
+        assertEquals(List.of("4", "9"), ids(catalog.findByTeam("san antonio spurs")));
+        assertEquals(List.of("5", "9"), ids(catalog.findByPosition("c")));
+    }
+
+    @Test
+    @DisplayName("A fallback catalog only adds players whose names are not already present")
+    void testWithFallback() {
+        PlayerCatalog fallback = PlayerCatalog.of(List.of(
+                player("100", "Lebron", "James", "Los Angeles Lakers", "SF"),
+                player("101", "Anthony", "Davis", "Dallas Mavericks", "PF")));
+
+        PlayerCatalog merged = catalog.withFallback(fallback);
+
+        assertEquals(PLAYERS.size() + 1, merged.size());
+        assertNotNull(merged.findById("101"));
+        assertNull(merged.findById("100"));
+    }
+
+    /**
+     * The catalog's matching rule applied to every player, as the original linear search did
+     */
+    private static List<String> scan(String term) {
+        String normalized = PlayerNames.normalize(term);
+        List<String> ids = new ArrayList<>();
+        for (NBAPlayerDTO player : PLAYERS) {
+            if (PlayerNames.normalize(player.getFirstName()).contains(normalized)
+                    || PlayerNames.normalize(player.getLastName()).contains(normalized)
+                    || PlayerNames.normalizeFullName(player.getFirstName(), player.getLastName()).contains(normalized)) {
+                ids.add(player.getPlayerId());
+            }
+        }
+        return ids;
+    }
+
+    private static List<String> ids(List<NBAPlayerDTO> players) {
+        return players.stream().map(NBAPlayerDTO::getPlayerId).toList();
+    }
+
+    private static NBAPlayerDTO player(String id, String firstName, String lastName, String team, String position) {
+        return NBAPlayerDTO.builder()
+                .playerId(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .team(team)
+                .position(position)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.courtvision.catalog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("Player Names Tests")
+class PlayerNamesTest {
+
+    @Test
+    @DisplayName("Normalization lower-cases, strips accents and punctuation, and collapses separators")
+    void testNormalize() {
+        assertEquals("nikola jokic", PlayerNames.normalize("Nikola Jokić"));
+        assertEquals("nikola jokic", PlayerNames.normalize("  nikola   jokic "));
+        assertEquals("nikola jokic", PlayerNames.normalize("Nikola-Jokic"));
+        assertEquals("deaaron fox", PlayerNames.normalize("De'Aaron Fox"));
+        assertEquals("jaren jackson jr", PlayerNames.normalize("Jaren Jackson Jr."));
+        assertEquals("", PlayerNames.normalize("'.'"));
+        assertEquals("", PlayerNames.normalize(null));
+    }
+
+    @Test
+    @DisplayName("Full names need both parts")
+    void testNormalizeFullName() {
+        assertEquals("shai gilgeous alexander", PlayerNames.normalizeFullName("Shai", "Gilgeous-Alexander"));
+        assertNull(PlayerNames.normalizeFullName("Shai", null));
+    }
+
+    @Test
+    @DisplayName("Trigrams pad each word and drop duplicates")
+    void testTrigrams() {
+        assertEquals(List.of("  b", " bo", "bol", "ol ", "  o", " ol"), PlayerNames.trigrams("bol ol"));
+        assertEquals(List.of("  a", " a "), PlayerNames.trigrams("a"));
+    }
+}
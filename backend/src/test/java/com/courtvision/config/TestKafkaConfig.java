@@ -1,12 +1,17 @@
 package com.courtvision.config;
 
-import com.courtvision.dto.ScoreUpdateEvent;
+import com.courtvision.dto.LeagueScoreboardSnapshotEvent;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 import org.springframework.kafka.core.KafkaTemplate;
 
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
 /**
  * Test configuration for Kafka - mocks Kafka template to avoid connection issues during tests
  */
@@ -14,12 +19,16 @@ import org.springframework.kafka.core.KafkaTemplate;
 public class TestKafkaConfig {
 
     /**
-     * Provide a mock KafkaTemplate for tests
+     * Provide a mock scoreboard snapshot KafkaTemplate for tests
+     * Sends are asynchronous, so the mock hands back a future that never completes
      */
     @Bean
     @Primary
-    public KafkaTemplate<String, ScoreUpdateEvent> scoreUpdateKafkaTemplate() {
-        return Mockito.mock(KafkaTemplate.class);
+    @SuppressWarnings("unchecked")
+    public KafkaTemplate<String, LeagueScoreboardSnapshotEvent> leagueScoreboardKafkaTemplate() {
+        KafkaTemplate<String, LeagueScoreboardSnapshotEvent> template = Mockito.mock(KafkaTemplate.class);
+        Mockito.when(template.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+        return template;
     }
 
     /**
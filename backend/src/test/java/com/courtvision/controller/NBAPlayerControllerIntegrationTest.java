@@ -1,7 +1,11 @@
 package com.courtvision.controller;
 
 import com.courtvision.config.TestSecurityConfig;
+import com.courtvision.dto.ApiResponse;
+import com.courtvision.dto.BulkPlayerLookupRequest;
+import com.courtvision.dto.BulkPlayerLookupResponse;
 import com.courtvision.dto.NBAPlayerDTO;
+import com.courtvision.dto.PlayerSuggestionDTO;
 import com.courtvision.service.NBAPlayerService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +19,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -22,6 +27,7 @@ import java.util.List;
 
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
@@ -104,6 +110,48 @@ class NBAPlayerControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.length()").value(3));
     }
 
+    @Test
+    @DisplayName("Should paginate and project players")
+    void testGetPlayersPageWithFields() throws Exception {
+        when(nbaPlayerService.getAllPlayers()).thenReturn(mockPlayers);
+
+        MvcResult firstPage = mockMvc.perform(get("/api/nba/players")
+                .param("limit", "2")
+                .param("fields", "id,name"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].player_id").value("1"))
+                .andExpect(jsonPath("$.data[0].name").value("LeBron James"))
+                .andExpect(jsonPath("$.data[0].team").doesNotExist())
+                .andReturn();
+
+        mockMvc.perform(get("/api/nba/players")
+                .param("limit", "2")
+                .param("fields", "id,name")
+                .param("cursor", firstPage.getResponse().getHeader("X-Next-Cursor")))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].player_id").value("3"));
+    }
+
+    @Test
+    @DisplayName("Should return 304 when the player listing ETag matches")
+    void testGetAllPlayersNotModified() throws Exception {
+        when(nbaPlayerService.getAllPlayers()).thenReturn(mockPlayers);
+
+        String eTag = mockMvc.perform(get("/api/nba/players"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/nba/players")
+                .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag));
+    }
+
     @Test
     @DisplayName("Should search players by name")
     void testSearchPlayersByName() throws Exception {
@@ -134,6 +182,29 @@ class NBAPlayerControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.length()").value(0));
     }
 
+    @Test
+    @DisplayName("Should autocomplete player names")
+    void testAutocompletePlayers() throws Exception {
+        byte[] body = objectMapper.writeValueAsBytes(ApiResponse.builder()
+                .success(true)
+                .message("Found 1 suggestions")
+                .data(List.of(PlayerSuggestionDTO.fromPlayer(mockPlayers.get(0))))
+                .build());
+        when(nbaPlayerService.autocompletePlayers("leb", 5))
+                .thenReturn(body);
+
+        mockMvc.perform(get("/api/nba/players/autocomplete")
+                .param("q", "leb")
+                .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].player_id").value("1"))
+                .andExpect(jsonPath("$.data[0].name").value("LeBron James"))
+                .andExpect(jsonPath("$.data[0].team").value("Los Angeles Lakers"));
+    }
+
     @Test
     @DisplayName("Should search players by team")
     void testSearchPlayersByTeam() throws Exception {
@@ -194,6 +265,29 @@ class NBAPlayerControllerIntegrationTest {
                 .andExpect(jsonPath("$.message").exists());
     }
 
+    @Test
+    @DisplayName("Should look up players in bulk")
+    void testLookupPlayersInBulk() throws Exception {
+        BulkPlayerLookupRequest request = BulkPlayerLookupRequest.builder()
+                .ids(List.of("1", "999"))
+                .names(List.of("Stephen Curry"))
+                .build();
+        when(nbaPlayerService.lookupPlayers(request.getIds(), request.getNames()))
+                .thenReturn(BulkPlayerLookupResponse.builder()
+                        .players(List.of(mockPlayers.get(0), mockPlayers.get(2)))
+                        .notFound(List.of("999"))
+                        .build());
+
+        mockMvc.perform(post("/api/nba/players/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.players.length()").value(2))
+                .andExpect(jsonPath("$.data.players[1].first_name").value("Stephen"))
+                .andExpect(jsonPath("$.data.not_found[0]").value("999"));
+    }
+
     @Test
     @DisplayName("Should get all unique positions")
     void testGetAllPositions() throws Exception {
@@ -0,0 +1,83 @@
+package com.courtvision.kafka;
+
+import com.courtvision.config.KafkaConfig;
+import com.courtvision.config.TestSecurityConfig;
+import com.courtvision.entity.League;
+import com.courtvision.repository.LeagueRepository;
+import com.courtvision.scheduler.ScoreCalculationScheduler;
+import com.courtvision.service.ScoreService;
+import com.courtvision.service.ScoringLedgerService;
+import com.courtvision.service.ScoringRun;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "scheduling.score-calculation.distributed=true",
+        "kafka.score-calculation.partitions=4"
+})
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+@EmbeddedKafka(partitions = 4, topics = KafkaConfig.SCORE_CALCULATION_TOPIC)
+@DirtiesContext
+@DisplayName("Score Calculation Kafka Integration Tests")
+class ScoreCalculationKafkaIntegrationTest {
+
+    @Autowired
+    private ScoreCalculationScheduler scoreCalculationScheduler;
+
+    @MockBean
+    private ScoreService scoreService;
+
+    @MockBean
+    private LeagueRepository leagueRepository;
+
+    @MockBean
+    private ScoringLedgerService scoringLedgerService;
+
+    @Test
+    @DisplayName("Daily job publishes one request per league once per date and the scoring consumers score every league")
+    void testDistributedDailyScoring() {
+        List<League> leagues = LongStream.rangeClosed(1, 6)
+                .mapToObj(id -> League.builder().id(id).name("League " + id).build())
+                .toList();
+        when(leagueRepository.findAll()).thenReturn(leagues);
+        ScoringRun run = mock(ScoringRun.class);
+        when(scoreService.startScoringRun(anyString(), any(LocalDate.class))).thenReturn(run);
+
+        scoreCalculationScheduler.calculateDailyScores();
+
+        for (League league : leagues) {
+            verify(scoreService, timeout(30000)).calculateLeagueScores(eq(league.getId()), eq(run));
+        }
+        verify(scoreService, times(leagues.size())).calculateLeagueScores(anyLong(), any(ScoringRun.class));
+        // All requests belong to one run, so the node starts a single scoring run for them
+        verify(scoreService, times(1)).startScoringRun(anyString(), any(LocalDate.class));
+
+        // A second node's job for the same date finds the date already claimed and publishes nothing
+        scoreCalculationScheduler.calculateDailyScores();
+        verify(scoreService, after(3000).times(leagues.size())).calculateLeagueScores(anyLong(), any(ScoringRun.class));
+    }
+}
@@ -0,0 +1,142 @@
+package com.courtvision.leaderboard;
+
+import com.courtvision.dto.ScoreCalculationDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("League Leaderboard Tests")
+class LeagueLeaderboardTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 15, 2, 0);
+
+    private final LeagueLeaderboard leaderboard = new LeagueLeaderboard();
+
+    @Test
+    @DisplayName("Scores are ranked by total descending, ties broken by user ID ascending")
+    void testRanking() {
+        leaderboard.update(score(3L, 50.0, T0));
+        leaderboard.update(score(1L, 80.0, T0));
+        leaderboard.update(score(4L, 50.0, T0));
+        leaderboard.update(score(2L, 50.0, T0));
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), userIds(leaderboard.all()));
+        assertEquals(List.of(1, 2, 3, 4), leaderboard.all().stream().map(ScoreCalculationDTO::getRank).toList());
+        assertEquals(3, leaderboard.get(3L).getRank());
+        assertEquals(50.0, leaderboard.get(3L).getTotalScore());
+        assertNull(leaderboard.get(99L));
+        assertEquals(4, leaderboard.size());
+    }
+
+    @Test
+    @DisplayName("A newer score moves the user; a score that is not newer is ignored")
+    void testUpdate() {
+        leaderboard.update(score(1L, 80.0, T0));
+        leaderboard.update(score(2L, 60.0, T0));
+
+        assertTrue(leaderboard.update(score(2L, 90.0, T0.plusDays(1))));
+        assertEquals(List.of(2L, 1L), userIds(leaderboard.all()));
+
+        assertFalse(leaderboard.update(score(2L, 10.0, T0.plusDays(1))));
+        assertFalse(leaderboard.update(score(2L, 10.0, T0)));
+        assertFalse(leaderboard.update(score(2L, 10.0, null)));
+        assertEquals(90.0, leaderboard.get(2L).getTotalScore());
+        assertEquals(1, leaderboard.get(2L).getRank());
+        assertEquals(2, leaderboard.size());
+    }
+
+    @Test
+    @DisplayName("Ranges return a window of the ranking with absolute ranks")
+    void testRange() {
+        for (long userId = 1; userId <= 10; userId++) {
+            leaderboard.update(score(userId, 100.0 - userId, T0));
+        }
+
+        List<ScoreCalculationDTO> page = leaderboard.range(3, 4);
+        assertEquals(List.of(4L, 5L, 6L, 7L), userIds(page));
+        assertEquals(List.of(4, 5, 6, 7), page.stream().map(ScoreCalculationDTO::getRank).toList());
+        assertEquals(List.of(9L, 10L), userIds(leaderboard.range(8, 5)));
+        assertTrue(leaderboard.range(10, 5).isEmpty());
+        assertTrue(leaderboard.range(0, 0).isEmpty());
+        assertEquals(List.of(1L, 2L), userIds(leaderboard.range(-3, 2)));
+    }
+
+    @Test
+    @DisplayName("Removed users drop out and everyone below moves up")
+    void testRemove() {
+        leaderboard.update(score(1L, 80.0, T0));
+        leaderboard.update(score(2L, 60.0, T0));
+        leaderboard.update(score(3L, 40.0, T0));
+
+        assertTrue(leaderboard.remove(2L));
+        assertFalse(leaderboard.remove(2L));
+        assertEquals(List.of(1L, 3L), userIds(leaderboard.all()));
+        assertEquals(2, leaderboard.get(3L).getRank());
+        assertNull(leaderboard.get(2L));
+    }
+
+    @Test
+    @DisplayName("Retain drops users missing from a snapshot unless their score is newer than it")
+    void testRetain() {
+        leaderboard.update(score(1L, 80.0, T0));
+        leaderboard.update(score(2L, 60.0, T0));
+        leaderboard.update(score(3L, 40.0, T0.plusHours(2)));
+
+        assertEquals(1, leaderboard.retain(Set.of(1L), T0.plusHours(1)));
+        assertEquals(List.of(1L, 3L), userIds(leaderboard.all()));
+    }
+
+    @Test
+    @DisplayName("Random updates and removals keep the ranking identical to a full sort")
+    void testAgreesWithSort() {
+        Random random = new Random(42);
+        Map<Long, ScoreCalculationDTO> expected = new HashMap<>();
+        for (int i = 0; i < 2000; i++) {
+            long userId = random.nextInt(200);
+            if (random.nextInt(10) == 0) {
+                leaderboard.remove(userId);
+                expected.remove(userId);
+            } else {
+                // Few distinct totals so ties are common
+                ScoreCalculationDTO score = score(userId, (double) random.nextInt(20), T0.plusMinutes(i));
+                leaderboard.update(score);
+                expected.put(userId, score);
+            }
+        }
+
+        List<ScoreCalculationDTO> sorted = new ArrayList<>(expected.values());
+        sorted.sort(Comparator.comparing(ScoreCalculationDTO::getTotalScore).reversed()
+                .thenComparing(ScoreCalculationDTO::getUserId));
+        assertEquals(userIds(sorted), userIds(leaderboard.all()));
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(i + 1, leaderboard.get(sorted.get(i).getUserId()).getRank());
+        }
+    }
+
+    private static List<Long> userIds(List<ScoreCalculationDTO> scores) {
+        return scores.stream().map(ScoreCalculationDTO::getUserId).toList();
+    }
+
+    private static ScoreCalculationDTO score(Long userId, Double totalScore, LocalDateTime calculatedAt) {
+        return ScoreCalculationDTO.builder()
+                .leagueId(1L)
+                .userId(userId)
+                .username("user" + userId)
+                .totalScore(totalScore)
+                .calculatedAt(calculatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.courtvision.repository;
+
+import com.courtvision.entity.League;
+import com.courtvision.entity.LeagueScoreboardEntry;
+import com.courtvision.entity.ScoreCalculation;
+import com.courtvision.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("League Scoreboard Repository Tests")
+class LeagueScoreboardRepositoryTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 15, 2, 0);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ScoreCalculationRepository scoreCalculationRepository;
+
+    @Autowired
+    private LeagueScoreboardRepository leagueScoreboardRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private League league;
+    private League otherLeague;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            User user = User.builder()
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .password("password")
+                    .solanaWallet("wallet" + i)
+                    .build();
+            entityManager.persist(user);
+            users.add(user);
+        }
+        league = League.builder().name("Scoreboard League").creator(users.get(0)).build();
+        otherLeague = League.builder().name("Other League").creator(users.get(0)).build();
+        entityManager.persist(league);
+        entityManager.persist(otherLeague);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("The projection serves each user's latest score, highest first with ties by user ID")
+    void testCurrentScoresFollowUpserts() {
+        List<LeagueScoreboardEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            entries.add(LeagueScoreboardEntry.of(save(league, users.get(i), 10.0 * (i + 1), T0)));
+        }
+        leagueScoreboardRepository.saveAll(entries);
+        leagueScoreboardRepository.save(LeagueScoreboardEntry.of(save(otherLeague, users.get(0), 99.0, T0)));
+
+        // A later scoring moves user 0 level with user 2 and user 1 to the bottom; the history keeps both rounds
+        entries.get(0).update(save(league, users.get(0), 30.0, T0.plusDays(1)));
+        entries.get(1).update(save(league, users.get(1), 5.0, T0.plusDays(1)));
+        leagueScoreboardRepository.saveAll(entries);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ScoreCalculation> current = leagueScoreboardRepository.findCurrentScoresOrdered(league.getId());
+        assertEquals(List.of(users.get(0).getId(), users.get(2).getId(), users.get(1).getId()),
+                current.stream().map(score -> score.getUser().getId()).toList());
+        assertEquals(List.of(30.0, 30.0, 5.0), current.stream().map(ScoreCalculation::getTotalScore).toList());
+        assertEquals(T0.plusDays(1), current.get(0).getCalculatedAt());
+
+        assertEquals(5, scoreCalculationRepository.findAll().stream()
+                .filter(score -> score.getLeague().getId().equals(league.getId())).count());
+        assertEquals(3, leagueScoreboardRepository.findByLeagueIds(Set.of(league.getId())).size());
+        assertEquals(4, leagueScoreboardRepository.findCurrentScoresForLeagues(Set.of(league.getId(), otherLeague.getId())).size());
+        assertEquals(Set.of(league.getId(), otherLeague.getId()), leagueScoreboardRepository.findScoredLeagueIds());
+    }
+
+    @Test
+    @DisplayName("A departing user's entry is removed without touching their other leagues")
+    void testDeleteEntry() {
+        leagueScoreboardRepository.save(LeagueScoreboardEntry.of(save(league, users.get(1), 10.0, T0)));
+        leagueScoreboardRepository.save(LeagueScoreboardEntry.of(save(otherLeague, users.get(1), 20.0, T0)));
+
+        leagueScoreboardRepository.deleteByLeagueIdAndUserId(league.getId(), users.get(1).getId());
+        entityManager.flush();
+
+        assertEquals(List.of(), leagueScoreboardRepository.findCurrentScoresOrdered(league.getId()));
+        assertEquals(1, leagueScoreboardRepository.findCurrentScoresOrdered(otherLeague.getId()).size());
+    }
+
+    private ScoreCalculation save(League scoredLeague, User user, double total, LocalDateTime calculatedAt) {
+        return scoreCalculationRepository.save(ScoreCalculation.builder()
+                .league(scoredLeague)
+                .user(user)
+                .totalScore(total)
+                .playersEvaluated(2)
+                .calculatedAt(calculatedAt)
+                .build());
+    }
+}
@@ -0,0 +1,87 @@
+package com.courtvision.repository;
+
+import com.courtvision.entity.League;
+import com.courtvision.entity.LeagueScoreboardEntry;
+import com.courtvision.entity.ScoreCalculation;
+import com.courtvision.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("Score Batch Insert Tests")
+class ScoreBatchInsertTest {
+
+    private static final int USERS = 120;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ScoreCalculationRepository scoreCalculationRepository;
+
+    @Autowired
+    private LeagueScoreboardRepository leagueScoreboardRepository;
+
+    private League league;
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USERS; i++) {
+            User user = User.builder()
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .password("password")
+                    .solanaWallet("wallet" + i)
+                    .build();
+            entityManager.persist(user);
+            users.add(user);
+        }
+        league = League.builder().name("Batch League").creator(users.get(0)).build();
+        entityManager.persist(league);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Saving a league's scores and scoreboard entries sends batched inserts, not one per row")
+    void testScoresInsertedInBatches() {
+        LocalDateTime calculatedAt = LocalDateTime.now();
+        List<ScoreCalculation> scores = users.stream()
+                .map(user -> ScoreCalculation.builder()
+                        .league(league)
+                        .user(user)
+                        .totalScore(10.0)
+                        .playersEvaluated(5)
+                        .calculatedAt(calculatedAt)
+                        .build())
+                .toList();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<ScoreCalculation> saved = scoreCalculationRepository.saveAll(scores);
+        leagueScoreboardRepository.saveAll(saved.stream().map(LeagueScoreboardEntry::of).toList());
+        entityManager.flush();
+
+        assertEquals(2L * USERS, statistics.getEntityInsertCount());
+        // 120 rows of each at a batch size of 50 is 3 batches per table; sequence calls allocate 50 ids at a time
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= 16, "expected batched inserts, got " + statements + " statements");
+        assertTrue(saved.stream().allMatch(score -> score.getId() != null));
+    }
+}
@@ -0,0 +1,79 @@
+package com.courtvision.scheduler;
+
+import com.courtvision.service.JobClaimService;
+import com.courtvision.service.LiveScoringService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Live Scoring Scheduler Tests")
+class LiveScoringSchedulerTest {
+
+    private LiveScoringService liveScoringService;
+    private JobClaimService jobClaimService;
+    private LiveScoringScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        liveScoringService = mock(LiveScoringService.class);
+        jobClaimService = mock(JobClaimService.class);
+        scheduler = new LiveScoringScheduler(liveScoringService, jobClaimService);
+        ReflectionTestUtils.setField(scheduler, "enabled", true);
+        ReflectionTestUtils.setField(scheduler, "zone", "UTC");
+        ReflectionTestUtils.setField(scheduler, "windowStart", "00:00");
+        ReflectionTestUtils.setField(scheduler, "windowEnd", "23:59:59.999999999");
+        ReflectionTestUtils.setField(scheduler, "interval", 60000L);
+        scheduler.parseWindow();
+    }
+
+    @Test
+    @DisplayName("The node that claims the game day polls and renews its claim on later polls")
+    void testClaimingNodePollsAndRenews() {
+        when(jobClaimService.tryClaim(eq(LiveScoringScheduler.LIVE_SCORING_JOB), any(LocalDate.class), eq(Duration.ofMinutes(3))))
+                .thenReturn(true);
+        when(jobClaimService.renew(eq(LiveScoringScheduler.LIVE_SCORING_JOB), any(LocalDate.class))).thenReturn(true);
+
+        scheduler.pollLiveScores();
+        scheduler.pollLiveScores();
+
+        verify(liveScoringService, times(2)).poll(any(LocalDate.class));
+        verify(jobClaimService, times(1)).tryClaim(any(), any(), any());
+        verify(jobClaimService, times(1)).renew(any(), any());
+    }
+
+    @Test
+    @DisplayName("Other nodes do not poll, and a node whose claim was taken over stops polling")
+    void testNonClaimingNodeDoesNotPoll() {
+        when(jobClaimService.tryClaim(any(), any(), any())).thenReturn(true).thenReturn(false);
+        when(jobClaimService.renew(any(), any())).thenReturn(false);
+
+        scheduler.pollLiveScores();
+        scheduler.pollLiveScores();
+        scheduler.pollLiveScores();
+
+        verify(liveScoringService, times(1)).poll(any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("Nothing is claimed while live scoring is disabled")
+    void testDisabled() {
+        ReflectionTestUtils.setField(scheduler, "enabled", false);
+
+        scheduler.pollLiveScores();
+
+        verify(jobClaimService, never()).tryClaim(any(), any(), any());
+        verify(liveScoringService, never()).poll(any());
+    }
+}
@@ -0,0 +1,248 @@
+package com.courtvision.scheduler;
+
+import com.courtvision.catalog.PlayerCatalog;
+import com.courtvision.dto.LeagueScoreboardSnapshotEvent;
+import com.courtvision.dto.NBAPlayerDTO;
+import com.courtvision.entity.Draft;
+import com.courtvision.entity.DraftPick;
+import com.courtvision.entity.League;
+import com.courtvision.entity.LeagueMember;
+import com.courtvision.entity.ScoreCalculation;
+import com.courtvision.entity.ScoringProfile;
+import com.courtvision.entity.User;
+import com.courtvision.kafka.ScoreCalculationRequestEvent;
+import com.courtvision.repository.DraftPickRepository;
+import com.courtvision.repository.DraftRepository;
+import com.courtvision.repository.LeagueMemberRepository;
+import com.courtvision.repository.LeagueRepository;
+import com.courtvision.repository.LeagueScoreboardRepository;
+import com.courtvision.repository.ScoreCalculationRepository;
+import com.courtvision.service.JobClaimService;
+import com.courtvision.service.LeaderboardService;
+import com.courtvision.service.NBAPlayerService;
+import com.courtvision.service.PlayerStatService;
+import com.courtvision.service.ScoreService;
+import com.courtvision.service.ScoringLedgerService;
+import com.courtvision.service.ScoringRun;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Score Calculation Scheduler Tests")
+class ScoreCalculationSchedulerTest {
+
+    private static final String PUBLISH_JOB = "score-calculation-publish";
+
+    private JobClaimService jobClaimService;
+    private KafkaTemplate<String, ScoreCalculationRequestEvent> kafkaTemplate;
+    private ScoreCalculationScheduler scheduler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ScoringLedgerService scoringLedgerService = mock(ScoringLedgerService.class);
+        LeagueRepository leagueRepository = mock(LeagueRepository.class);
+        jobClaimService = mock(JobClaimService.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+
+        when(leagueRepository.findAll()).thenReturn(List.of(
+                League.builder().id(1L).name("League 1").build(),
+                League.builder().id(2L).name("League 2").build()));
+        when(scoringLedgerService.completedLeagueIds(any())).thenReturn(Set.of());
+        when(jobClaimService.tryClaim(eq(PUBLISH_JOB), any(LocalDate.class), any(Duration.class))).thenReturn(true);
+
+        scheduler = new ScoreCalculationScheduler(mock(ScoreService.class), scoringLedgerService, jobClaimService,
+                leagueRepository, mock(DataSource.class), kafkaTemplate);
+        ReflectionTestUtils.setField(scheduler, "distributedScoring", true);
+    }
+
+    @Test
+    @DisplayName("The publish claim completes once every request is acknowledged")
+    void testClaimCompletedAfterPublish() {
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        scheduler.calculateDailyScores();
+
+        verify(kafkaTemplate, times(2)).send(anyString(), anyString(), any());
+        verify(jobClaimService).complete(PUBLISH_JOB, LocalDate.now());
+        verify(jobClaimService, never()).release(any(), any());
+    }
+
+    @Test
+    @DisplayName("A failed send releases the publish claim so a retry can publish the date again")
+    void testClaimReleasedWhenPublishFails() {
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        scheduler.calculateDailyScores();
+
+        verify(jobClaimService).release(PUBLISH_JOB, LocalDate.now());
+        verify(jobClaimService, never()).complete(any(), any());
+    }
+
+    @Test
+    @DisplayName("The retry tick publishes nothing when it loses the claim")
+    void testRetryWithoutClaim() {
+        when(jobClaimService.tryClaim(eq(PUBLISH_JOB), any(LocalDate.class), any(Duration.class))).thenReturn(false);
+
+        scheduler.retryDistributedPublish();
+
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("A rerun scores only leagues the ledger has not completed and incremental scoring has not kept current")
+    void testRerunScoresOnlyLeaguesDue() {
+        ScoreService scoreService = mock(ScoreService.class);
+        ScoringLedgerService scoringLedgerService = mock(ScoringLedgerService.class);
+        LeagueRepository leagueRepository = mock(LeagueRepository.class);
+        when(leagueRepository.findAll()).thenReturn(List.of(
+                League.builder().id(1L).name("Completed").build(),
+                League.builder().id(2L).name("Current").build(),
+                League.builder().id(3L).name("Due").build()));
+        when(scoringLedgerService.completedLeagueIds(LocalDate.now())).thenReturn(Set.of(1L));
+        when(scoreService.incrementallyCurrentLeagueIds(LocalDate.now())).thenReturn(Set.of(2L));
+        when(scoringLedgerService.isCompleted(eq(1L), any())).thenReturn(true);
+        ScoringRun run = mock(ScoringRun.class);
+        when(run.getStatsDate()).thenReturn(LocalDate.now());
+        when(scoreService.startScoringRun(LocalDate.now())).thenReturn(run);
+
+        ScoreCalculationScheduler local = new ScoreCalculationScheduler(scoreService, scoringLedgerService,
+                mock(JobClaimService.class), leagueRepository, mock(DataSource.class), kafkaTemplate);
+        ReflectionTestUtils.setField(local, "incrementalScoring", true);
+        ReflectionTestUtils.setField(local, "parallelism", 2);
+        local.calculateDailyScores();
+
+        verify(scoreService).calculateLeagueScores(eq(3L), any());
+        verify(scoreService, never()).calculateLeagueScores(eq(1L), any());
+        verify(scoreService, never()).calculateLeagueScores(eq(2L), any());
+        verify(scoringLedgerService).markStarted(eq(3L), eq(LocalDate.now()), any());
+
+        // A redelivered request for a completed league is skipped too
+        assertFalse(local.scoreLeagueIfDue(1L, "Completed", run));
+        verify(scoreService, never()).calculateLeagueScores(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("Scoring leagues in parallel partitions gives the same scores as scoring them one by one")
+    void testPartitionedScoringMatchesSequential() {
+        Map<String, Double> sequential = new ConcurrentHashMap<>();
+        Set<String> sequentialThreads = ConcurrentHashMap.newKeySet();
+        localScheduler(sequential, sequentialThreads, 1).calculateDailyScores();
+
+        Map<String, Double> partitioned = new ConcurrentHashMap<>();
+        Set<String> partitionedThreads = ConcurrentHashMap.newKeySet();
+        localScheduler(partitioned, partitionedThreads, 4).calculateDailyScores();
+
+        assertEquals(12 * 3, sequential.size());
+        assertEquals(sequential, partitioned);
+        assertEquals(1, sequentialThreads.size());
+        assertTrue(partitionedThreads.size() > 1);
+    }
+
+    /**
+     * A non-distributed scheduler over a real ScoreService: 12 leagues of 3 users, each drafting 2 of
+     * 6 players shared across leagues, with every other league on a custom profile
+     * @param scores Receives each saved score's total, keyed by "league:user"
+     * @param threads Receives the name of every thread that saved scores
+     */
+    @SuppressWarnings("unchecked")
+    private ScoreCalculationScheduler localScheduler(Map<String, Double> scores, Set<String> threads, int parallelism) {
+        List<NBAPlayerDTO> players = new ArrayList<>();
+        for (int n = 1; n <= 6; n++) {
+            players.add(NBAPlayerDTO.builder().playerId("p" + n).firstName("Player").lastName("No" + n).position("G").build());
+        }
+
+        LeagueRepository leagueRepository = mock(LeagueRepository.class);
+        LeagueMemberRepository leagueMemberRepository = mock(LeagueMemberRepository.class);
+        DraftRepository draftRepository = mock(DraftRepository.class);
+        DraftPickRepository draftPickRepository = mock(DraftPickRepository.class);
+        List<League> leagues = new ArrayList<>();
+        for (long leagueId = 1; leagueId <= 12; leagueId++) {
+            League league = League.builder().id(leagueId).name("League " + leagueId).build();
+            if (leagueId % 2 == 0) {
+                league.setScoringProfile(ScoringProfile.builder().points(2.0).assists(0.5).build());
+            }
+            Draft draft = Draft.builder().id(100 + leagueId).league(league).build();
+            List<LeagueMember> members = new ArrayList<>();
+            List<DraftPick> picks = new ArrayList<>();
+            for (int k = 0; k < 3; k++) {
+                User user = User.builder().id(leagueId * 10 + k).username("user" + leagueId + k).build();
+                members.add(LeagueMember.builder().league(league).user(user).build());
+                for (long n : new long[] {(leagueId + k) % 6 + 1, (leagueId + 2 * k + 1) % 6 + 1}) {
+                    picks.add(DraftPick.builder().draft(draft).picker(user).playerName("Player No" + n).nbaPlayerId("p" + n).build());
+                }
+            }
+            leagues.add(league);
+            when(leagueRepository.findById(leagueId)).thenReturn(Optional.of(league));
+            when(leagueMemberRepository.findByLeagueIdWithUser(leagueId)).thenReturn(members);
+            when(draftRepository.findByLeagueId(leagueId)).thenReturn(Optional.of(draft));
+            when(draftPickRepository.findByDraftIdOrdered(draft.getId())).thenReturn(picks);
+        }
+        when(leagueRepository.findAll()).thenReturn(leagues);
+
+        ScoreCalculationRepository scoreCalculationRepository = mock(ScoreCalculationRepository.class);
+        when(scoreCalculationRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<ScoreCalculation> saved = invocation.getArgument(0);
+            for (ScoreCalculation score : saved) {
+                scores.put(score.getLeague().getId() + ":" + score.getUser().getId(), score.getTotalScore());
+            }
+            threads.add(Thread.currentThread().getName());
+            return saved;
+        });
+
+        // p6 has no stored games and falls back to the basic score
+        PlayerStatService playerStatService = mock(PlayerStatService.class);
+        Map<String, long[]> totals = new HashMap<>();
+        for (int n = 1; n <= 5; n++) {
+            totals.put("p" + n, new long[] {20L * n, 3L * n, 2L * n, n, 1, n, 2});
+        }
+        when(playerStatService.seasonTotals(anyString(), any())).thenAnswer(invocation -> totals.get(invocation.<String>getArgument(0)));
+
+        NBAPlayerService nbaPlayerService = mock(NBAPlayerService.class);
+        when(nbaPlayerService.getCatalog()).thenReturn(PlayerCatalog.of(players));
+        KafkaTemplate<String, LeagueScoreboardSnapshotEvent> scoreboardTemplate = mock(KafkaTemplate.class);
+        when(scoreboardTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+        ScoringLedgerService scoringLedgerService = mock(ScoringLedgerService.class);
+        when(scoringLedgerService.completedLeagueIds(any())).thenReturn(Set.of());
+
+        ScoreService scoreService = new ScoreService(scoreCalculationRepository, mock(LeagueScoreboardRepository.class),
+                draftPickRepository, leagueRepository, leagueMemberRepository, nbaPlayerService, playerStatService,
+                scoringLedgerService, mock(JobClaimService.class), mock(LeaderboardService.class), scoreboardTemplate);
+        ReflectionTestUtils.setField(scoreService, "draftRepository", draftRepository);
+
+        ScoreCalculationScheduler local = new ScoreCalculationScheduler(scoreService, scoringLedgerService,
+                mock(JobClaimService.class), leagueRepository, mock(DataSource.class), kafkaTemplate);
+        ReflectionTestUtils.setField(local, "parallelism", parallelism);
+        return local;
+    }
+}
@@ -0,0 +1,61 @@
+package com.courtvision.scheduler;
+
+import com.courtvision.service.JobClaimService;
+import com.courtvision.service.ScoreHistoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Score History Scheduler Tests")
+class ScoreHistorySchedulerTest {
+
+    private static final String MAINTENANCE_JOB = "score-history-maintenance";
+
+    private ScoreHistoryService scoreHistoryService;
+    private JobClaimService jobClaimService;
+    private ScoreHistoryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scoreHistoryService = mock(ScoreHistoryService.class);
+        jobClaimService = mock(JobClaimService.class);
+        scheduler = new ScoreHistoryScheduler(scoreHistoryService, jobClaimService);
+    }
+
+    @Test
+    @DisplayName("Only the node that claims the date runs maintenance, and completes the claim")
+    void testMaintenanceRunsOnClaimingNode() {
+        when(jobClaimService.tryClaim(eq(MAINTENANCE_JOB), any(LocalDate.class), any(Duration.class)))
+                .thenReturn(true)
+                .thenReturn(false);
+
+        scheduler.maintainScoreHistory();
+        scheduler.maintainScoreHistory();
+
+        verify(scoreHistoryService).runMaintenance();
+        verify(jobClaimService).complete(MAINTENANCE_JOB, LocalDate.now());
+    }
+
+    @Test
+    @DisplayName("Failed maintenance releases the claim")
+    void testFailedMaintenanceReleasesClaim() {
+        when(jobClaimService.tryClaim(eq(MAINTENANCE_JOB), any(LocalDate.class), any(Duration.class))).thenReturn(true);
+        doThrow(new IllegalStateException("lock timeout")).when(scoreHistoryService).runMaintenance();
+
+        scheduler.maintainScoreHistory();
+
+        verify(jobClaimService).release(MAINTENANCE_JOB, LocalDate.now());
+        verify(jobClaimService, never()).complete(any(), any());
+    }
+}
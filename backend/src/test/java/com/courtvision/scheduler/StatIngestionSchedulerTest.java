@@ -0,0 +1,57 @@
+package com.courtvision.scheduler;
+
+import com.courtvision.service.PlayerStatService;
+import com.courtvision.service.ScoreService;
+import com.courtvision.stats.StatUpdate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Stat Ingestion Scheduler Tests")
+class StatIngestionSchedulerTest {
+
+    private PlayerStatService playerStatService;
+    private ScoreService scoreService;
+    private StatIngestionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        playerStatService = mock(PlayerStatService.class);
+        scoreService = mock(ScoreService.class);
+        scheduler = new StatIngestionScheduler(playerStatService, scoreService);
+        ReflectionTestUtils.setField(scheduler, "incrementalScoring", true);
+        when(playerStatService.ingestDay(any())).thenReturn(StatUpdate.EMPTY);
+    }
+
+    @Test
+    @DisplayName("Deltas are applied when the stat store is complete")
+    void testAppliesDeltas() {
+        when(playerStatService.retryMissedDates()).thenReturn(0);
+
+        scheduler.ingestYesterday();
+
+        verify(scoreService).applyStatUpdate(StatUpdate.EMPTY, LocalDate.now().minusDays(1));
+    }
+
+    @Test
+    @DisplayName("Deltas are not applied while backfilled days were missing")
+    void testSkipsDeltasAfterMissedBackfill() {
+        when(playerStatService.retryMissedDates()).thenReturn(2);
+        when(playerStatService.getMissedDates()).thenReturn(Set.of(LocalDate.of(2025, 11, 2)));
+
+        scheduler.ingestYesterday();
+
+        verify(playerStatService).ingestDay(LocalDate.now().minusDays(1));
+        verify(scoreService, never()).applyStatUpdate(any(), any());
+    }
+}
@@ -0,0 +1,95 @@
+package com.courtvision.service;
+
+import com.courtvision.entity.JobClaim;
+import com.courtvision.repository.JobClaimRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JobClaimService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Job Claim Service Tests")
+class JobClaimServiceTest {
+
+    private static final String JOB = "test-job";
+    private static final LocalDate RUN_DATE = LocalDate.of(2026, 1, 15);
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    @Autowired
+    private JobClaimService jobClaimService;
+
+    @Autowired
+    private JobClaimRepository jobClaimRepository;
+
+    @BeforeEach
+    void setUp() {
+        jobClaimRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("The first claim for a date wins and later claims lose")
+    void testFirstClaimWins() {
+        assertTrue(jobClaimService.tryClaim(JOB, RUN_DATE, LEASE));
+        assertFalse(jobClaimService.tryClaim(JOB, RUN_DATE, LEASE));
+        assertTrue(jobClaimService.tryClaim(JOB, RUN_DATE.plusDays(1), LEASE));
+    }
+
+    @Test
+    @DisplayName("A released claim can be claimed again; a completed one cannot")
+    void testReleaseAndComplete() {
+        assertTrue(jobClaimService.tryClaim(JOB, RUN_DATE, LEASE));
+        jobClaimService.release(JOB, RUN_DATE);
+        assertTrue(jobClaimService.tryClaim(JOB, RUN_DATE, LEASE));
+
+        jobClaimService.complete(JOB, RUN_DATE);
+        jobClaimService.release(JOB, RUN_DATE);
+        assertFalse(jobClaimService.tryClaim(JOB, RUN_DATE, Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("An uncompleted claim past its lease is taken over; a completed one is not")
+    void testStaleClaimTakenOver() {
+        LocalDateTime longAgo = LocalDateTime.now().minusHours(1);
+        jobClaimRepository.save(claim(JOB, RUN_DATE, longAgo, null));
+        jobClaimRepository.save(claim(JOB, RUN_DATE.plusDays(1), longAgo, longAgo));
+
+        assertTrue(jobClaimService.tryClaim(JOB, RUN_DATE, LEASE));
+        assertFalse(jobClaimService.tryClaim(JOB, RUN_DATE, LEASE));
+        assertFalse(jobClaimService.tryClaim(JOB, RUN_DATE.plusDays(1), LEASE));
+    }
+
+    @Test
+    @DisplayName("A held claim renews; a claim held by another node does not")
+    void testRenew() {
+        assertTrue(jobClaimService.tryClaim(JOB, RUN_DATE, LEASE));
+        assertTrue(jobClaimService.renew(JOB, RUN_DATE));
+
+        jobClaimRepository.save(claim(JOB, RUN_DATE.plusDays(1), LocalDateTime.now(), null));
+        assertFalse(jobClaimService.renew(JOB, RUN_DATE.plusDays(1)));
+    }
+
+    private static JobClaim claim(String jobName, LocalDate runDate, LocalDateTime claimedAt, LocalDateTime completedAt) {
+        return JobClaim.builder()
+                .jobName(jobName)
+                .runDate(runDate)
+                .claimedBy("1@dead-node")
+                .claimedAt(claimedAt)
+                .completedAt(completedAt)
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.courtvision.service;
+
+import com.courtvision.dto.LeagueScoreboardSnapshotEvent;
+import com.courtvision.dto.ScoreCalculationDTO;
+import com.courtvision.entity.League;
+import com.courtvision.entity.ScoreCalculation;
+import com.courtvision.entity.User;
+import com.courtvision.repository.LeagueScoreboardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Leaderboard Service Tests")
+class LeaderboardServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 15, 2, 0);
+
+    private final League league = League.builder().id(1L).name("Test League").build();
+    private LeagueScoreboardRepository repository;
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(LeagueScoreboardRepository.class);
+        leaderboardService = new LeaderboardService(repository);
+    }
+
+    @Test
+    @DisplayName("Rankings come from the projection until loaded, then from memory")
+    void testLoadLeaderboards() {
+        List<ScoreCalculation> projection = List.of(entity(2L, 70.0, T0), entity(1L, 40.0, T0));
+        when(repository.findCurrentScoresOrdered(1L)).thenReturn(projection);
+        when(repository.findScoredLeagueIds()).thenReturn(Set.of(1L));
+        when(repository.findCurrentScoresForLeagues(anyCollection())).thenReturn(projection);
+
+        assertEquals(List.of(2L, 1L), userIds(leaderboardService.ranking(1L, 0, 10)));
+        assertEquals(2, leaderboardService.rankOf(1L, 1L).orElseThrow().getRank());
+
+        leaderboardService.loadLeaderboards();
+        when(repository.findCurrentScoresOrdered(1L)).thenReturn(List.of());
+
+        assertEquals(List.of(2L, 1L), userIds(leaderboardService.ranking(1L, 0, 10)));
+        assertEquals(List.of(1L), userIds(leaderboardService.ranking(1L, 1, 10)));
+        assertEquals(2, leaderboardService.rankOf(1L, 1L).orElseThrow().getRank());
+        assertTrue(leaderboardService.ranking(2L, 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Applied scores re-rank the league; older scores are ignored")
+    void testApply() {
+        loadEmpty();
+        leaderboardService.apply(List.of(dto(1L, 40.0, T0), dto(2L, 70.0, T0)));
+        leaderboardService.apply(List.of(dto(1L, 90.0, T0.plusDays(1))));
+        leaderboardService.apply(List.of(dto(1L, 10.0, T0)));
+
+        assertEquals(List.of(1L, 2L), userIds(leaderboardService.ranking(1L, 0, 10)));
+        assertEquals(90.0, leaderboardService.rankOf(1L, 1L).orElseThrow().getTotalScore());
+    }
+
+    @Test
+    @DisplayName("Removed members and members missing from a newer snapshot leave the ranking")
+    void testDepartedMembers() {
+        loadEmpty();
+        leaderboardService.apply(List.of(dto(1L, 40.0, T0), dto(2L, 70.0, T0), dto(3L, 20.0, T0)));
+
+        leaderboardService.remove(1L, 2L);
+        assertEquals(List.of(1L, 3L), userIds(leaderboardService.ranking(1L, 0, 10)));
+
+        // Another node removed user 3 and published what remained
+        leaderboardService.apply(LeagueScoreboardSnapshotEvent.builder()
+                .leagueId(1L)
+                .leagueName("Test League")
+                .scores(List.of(LeagueScoreboardSnapshotEvent.RankedScore.builder()
+                        .rank(1).userId(1L).totalScore(40.0).calculatedAt(T0).build()))
+                .timestamp(T0.plusHours(1))
+                .build());
+
+        assertEquals(List.of(1L), userIds(leaderboardService.ranking(1L, 0, 10)));
+        assertTrue(leaderboardService.rankOf(1L, 3L).isEmpty());
+    }
+
+    private void loadEmpty() {
+        when(repository.findScoredLeagueIds()).thenReturn(Set.of());
+        leaderboardService.loadLeaderboards();
+    }
+
+    private static List<Long> userIds(List<ScoreCalculationDTO> scores) {
+        return scores.stream().map(ScoreCalculationDTO::getUserId).toList();
+    }
+
+    private ScoreCalculation entity(Long userId, Double totalScore, LocalDateTime calculatedAt) {
+        return ScoreCalculation.builder()
+                .league(league)
+                .user(User.builder().id(userId).username("user" + userId).build())
+                .totalScore(totalScore)
+                .playersEvaluated(5)
+                .calculatedAt(calculatedAt)
+                .build();
+    }
+
+    private static ScoreCalculationDTO dto(Long userId, Double totalScore, LocalDateTime calculatedAt) {
+        return ScoreCalculationDTO.builder()
+                .leagueId(1L)
+                .userId(userId)
+                .totalScore(totalScore)
+                .calculatedAt(calculatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,168 @@
+package com.courtvision.service;
+
+import com.courtvision.catalog.PlayerCatalog;
+import com.courtvision.config.KafkaConfig;
+import com.courtvision.dto.LeagueScoreboardSnapshotEvent;
+import com.courtvision.dto.NBAPlayerDTO;
+import com.courtvision.dto.RosterSlot;
+import com.courtvision.entity.League;
+import com.courtvision.entity.ScoreCalculation;
+import com.courtvision.entity.User;
+import com.courtvision.repository.DraftPickRepository;
+import com.courtvision.repository.LeagueMemberRepository;
+import com.courtvision.repository.LeagueRepository;
+import com.courtvision.repository.LeagueScoreboardRepository;
+import com.courtvision.repository.ScoreCalculationRepository;
+import com.courtvision.stats.PlayerStatStore;
+import com.courtvision.stats.ScoringWeights;
+import com.courtvision.stats.Stat;
+import com.courtvision.stats.StatLine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Live Scoring Service Tests")
+class LiveScoringServiceTest {
+
+    private static final LocalDate SEASON_START = LocalDate.of(2025, 10, 21);
+    private static final LocalDate GAME_DATE = LocalDate.of(2026, 1, 15);
+
+    // No stored games yet: the persisted score is the basic score (5 for having a position)
+    private static final NBAPlayerDTO ROOKIE = NBAPlayerDTO.builder()
+            .playerId("1001").firstName("New").lastName("Rookie").position("SG").build();
+
+    // One stored game before the game date
+    private static final NBAPlayerDTO VETERAN = NBAPlayerDTO.builder()
+            .playerId("2544").firstName("LeBron").lastName("James").position("SF").build();
+
+    private final League league = League.builder().id(1L).name("Test League").build();
+    private final ScoringWeights weights = league.getScoringWeights();
+
+    private PlayerStatService playerStatService;
+    private KafkaTemplate<String, LeagueScoreboardSnapshotEvent> kafkaTemplate;
+    private LiveScoringService liveScoringService;
+    private double veteranPersisted;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        PlayerStatStore statStore = new PlayerStatStore(SEASON_START, 250);
+        StatLine earlierGame = line("2544", 20, 5, 5);
+        statStore.apply(Map.of(GAME_DATE.minusDays(3), List.of(earlierGame)));
+        veteranPersisted = weights.score(totals(earlierGame));
+
+        playerStatService = mock(PlayerStatService.class);
+        when(playerStatService.getStatStore()).thenReturn(statStore);
+
+        DraftPickRepository draftPickRepository = mock(DraftPickRepository.class);
+        List<RosterSlot> slots = List.of(new RosterSlot("1001", 1L, 10L), new RosterSlot("2544", 1L, 11L));
+        when(draftPickRepository.findRosterSlotsByNbaPlayerIds(anyList())).thenAnswer(invocation -> {
+            List<String> playerIds = invocation.getArgument(0);
+            return slots.stream().filter(slot -> playerIds.contains(slot.getNbaPlayerId())).toList();
+        });
+
+        LeagueScoreboardRepository leagueScoreboardRepository = mock(LeagueScoreboardRepository.class);
+        when(leagueScoreboardRepository.findCurrentScoresForLeagues(anyCollection())).thenReturn(List.of(
+                score(10L, "rookie-owner", 5.0), score(11L, "veteran-owner", veteranPersisted)));
+
+        NBAPlayerService nbaPlayerService = mock(NBAPlayerService.class);
+        when(nbaPlayerService.getCatalog()).thenReturn(PlayerCatalog.of(List.of(ROOKIE, VETERAN)));
+
+        kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+
+        ScoreService scoreService = new ScoreService(mock(ScoreCalculationRepository.class), leagueScoreboardRepository,
+                draftPickRepository, mock(LeagueRepository.class), mock(LeagueMemberRepository.class), nbaPlayerService,
+                playerStatService, mock(ScoringLedgerService.class), mock(JobClaimService.class),
+                mock(LeaderboardService.class), kafkaTemplate);
+        liveScoringService = new LiveScoringService(playerStatService, draftPickRepository, leagueScoreboardRepository,
+                nbaPlayerService, scoreService, kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("Live totals follow the incremental delta rule, swapping out the basic score on a first game")
+    void testLiveDeltaMatchesIncrementalRule() {
+        StatLine rookieFirstPoll = line("1001", 6, 2, 1);
+        StatLine veteranFirstPoll = line("2544", 10, 3, 2);
+        when(playerStatService.fetchBoxScores(GAME_DATE)).thenReturn(List.of(rookieFirstPoll, veteranFirstPoll));
+
+        assertEquals(2, liveScoringService.poll(GAME_DATE));
+        Map<Long, Double> totals = lastTotals();
+        assertEquals(weights.score(totals(rookieFirstPoll)), totals.get(10L), 1e-9);
+        assertEquals(veteranPersisted + weights.score(totals(veteranFirstPoll)), totals.get(11L), 1e-9);
+
+        StatLine rookieSecondPoll = line("1001", 14, 4, 3);
+        when(playerStatService.fetchBoxScores(GAME_DATE)).thenReturn(List.of(rookieSecondPoll, veteranFirstPoll));
+
+        assertEquals(1, liveScoringService.poll(GAME_DATE));
+        assertEquals(weights.score(totals(rookieSecondPoll)), lastTotals().get(10L), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Live standings are published as live snapshots on the scoreboard topic")
+    void testStandingsPublishedToScoreboardTopic() {
+        when(playerStatService.fetchBoxScores(GAME_DATE)).thenReturn(List.of(line("2544", 10, 3, 2)));
+
+        liveScoringService.poll(GAME_DATE);
+
+        LeagueScoreboardSnapshotEvent event = lastEvent();
+        assertEquals(LeagueScoreboardSnapshotEvent.LIVE_SNAPSHOT, event.getEventType());
+        assertEquals(List.of(11L, 10L), event.getScores().stream()
+                .map(LeagueScoreboardSnapshotEvent.RankedScore::getUserId).toList());
+        assertEquals(1, event.getScores().get(0).getRank());
+    }
+
+    private Map<Long, Double> lastTotals() {
+        return lastEvent().getScores().stream().collect(Collectors.toMap(
+                LeagueScoreboardSnapshotEvent.RankedScore::getUserId,
+                LeagueScoreboardSnapshotEvent.RankedScore::getTotalScore));
+    }
+
+    private LeagueScoreboardSnapshotEvent lastEvent() {
+        ArgumentCaptor<LeagueScoreboardSnapshotEvent> events = ArgumentCaptor.forClass(LeagueScoreboardSnapshotEvent.class);
+        verify(kafkaTemplate, atLeastOnce()).send(eq(KafkaConfig.LEAGUE_SCOREBOARD_TOPIC), eq("1"), events.capture());
+        return events.getValue();
+    }
+
+    private ScoreCalculation score(Long userId, String username, double total) {
+        return ScoreCalculation.builder()
+                .league(league)
+                .user(User.builder().id(userId).username(username).build())
+                .totalScore(total)
+                .playersEvaluated(1)
+                .calculatedAt(LocalDateTime.of(2026, 1, 14, 2, 0))
+                .build();
+    }
+
+    private static StatLine line(String playerId, int points, int rebounds, int assists) {
+        return StatLine.builder().playerId(playerId).points(points).rebounds(rebounds).assists(assists).minutes(20).build();
+    }
+
+    private static long[] totals(StatLine line) {
+        long[] totals = new long[Stat.values().length];
+        for (Stat stat : Stat.values()) {
+            totals[stat.ordinal()] = line.get(stat);
+        }
+        return totals;
+    }
+}
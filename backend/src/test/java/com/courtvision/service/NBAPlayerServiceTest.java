@@ -0,0 +1,119 @@
+package com.courtvision.service;
+
+import com.courtvision.catalog.PlayerCatalog;
+import com.courtvision.catalog.PlayerCatalogSnapshot;
+import com.courtvision.config.NbaApiConfig;
+import com.courtvision.dto.NBAPlayerDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("NBA Player Service Tests")
+class NBAPlayerServiceTest {
+
+    private static final List<NBAPlayerDTO> PLAYERS = List.of(NBAPlayerDTO.builder()
+            .playerId("2544").firstName("LeBron").lastName("James").position("SF").build());
+
+    @TempDir
+    Path directory;
+
+    private Path snapshotPath;
+    private RestTemplate restTemplate;
+    private NBAPlayerService nbaPlayerService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        snapshotPath = directory.resolve("player-catalog.bin");
+        PlayerCatalogSnapshot.write(snapshotPath, PlayerCatalog.of(PLAYERS), "\"v1\"", null);
+
+        NbaApiConfig config = new NbaApiConfig();
+        config.setBaseUrl("http://sportsblaze.test/nba/v1");
+        config.setKey("test-key");
+        config.setLocalCatalog("");
+        config.getCache().setSnapshotPath(snapshotPath.toString());
+
+        restTemplate = mock(RestTemplate.class);
+        nbaPlayerService = new NBAPlayerService(restTemplate, config, new ObjectMapper(), new DefaultResourceLoader());
+        nbaPlayerService.initCatalogCache();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nbaPlayerService.shutdownCatalogRefresh();
+    }
+
+    @Test
+    @DisplayName("A 304 keeps the catalog and restamps the snapshot, so a restart does not find it expired")
+    void testNotModifiedRefreshesSnapshot() throws Exception {
+        long savedAt = PlayerCatalogSnapshot.read(snapshotPath).getSavedAt();
+        Thread.sleep(5);
+        HttpHeaders sent = respondNotModified(new HttpHeaders());
+
+        PlayerCatalog catalog = nbaPlayerService.refreshCatalog().get(5, TimeUnit.SECONDS);
+
+        assertEquals("\"v1\"", sent.getIfNoneMatch().get(0));
+        assertEquals(PLAYERS, catalog.getPlayers());
+        PlayerCatalogSnapshot snapshot = PlayerCatalogSnapshot.read(snapshotPath);
+        assertTrue(snapshot.getSavedAt() > savedAt);
+        assertEquals("\"v1\"", snapshot.getETag());
+    }
+
+    @Test
+    @DisplayName("A 304 carrying new validators rewrites the snapshot with them")
+    void testNotModifiedWithNewValidators() throws Exception {
+        HttpHeaders received = new HttpHeaders();
+        received.setETag("\"v2\"");
+        respondNotModified(received);
+
+        nbaPlayerService.refreshCatalog().get(5, TimeUnit.SECONDS);
+
+        PlayerCatalogSnapshot snapshot = PlayerCatalogSnapshot.read(snapshotPath);
+        assertEquals("\"v2\"", snapshot.getETag());
+        assertEquals(PLAYERS, snapshot.getCatalog().getPlayers());
+    }
+
+    /**
+     * Answer the player list fetch with a 304 carrying the given headers
+     * @return The headers of the request that was sent
+     */
+    @SuppressWarnings("unchecked")
+    private HttpHeaders respondNotModified(HttpHeaders responseHeaders) throws Exception {
+        HttpHeaders requestHeaders = new HttpHeaders();
+        ClientHttpRequest request = mock(ClientHttpRequest.class);
+        when(request.getHeaders()).thenReturn(requestHeaders);
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getStatusCode()).thenReturn(HttpStatus.NOT_MODIFIED);
+        when(response.getHeaders()).thenReturn(responseHeaders);
+
+        when(restTemplate.execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<RequestCallback>getArgument(2).doWithRequest(request);
+                    return invocation.<ResponseExtractor<PlayerCatalog>>getArgument(3).extractData(response);
+                });
+        return requestHeaders;
+    }
+}
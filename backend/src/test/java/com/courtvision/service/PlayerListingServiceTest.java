@@ -0,0 +1,84 @@
+package com.courtvision.service;
+
+import com.courtvision.dto.NBAPlayerDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Player Listing Service Tests")
+class PlayerListingServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private NBAPlayerService nbaPlayerService;
+    private PlayerListingService listingService;
+
+    @BeforeEach
+    void setUp() {
+        nbaPlayerService = mock(NBAPlayerService.class);
+        listingService = new PlayerListingService(nbaPlayerService, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Paging walks every player once when IDs are missing or repeated")
+    void testPagingWithNullAndDuplicateIds() throws IOException {
+        List<NBAPlayerDTO> players = List.of(
+                player("1", "A"), player(null, "B"), player("2", "C"),
+                player("1", "D"), player("3", "E"), player(null, "F"));
+        when(nbaPlayerService.getAllPlayers()).thenReturn(players);
+
+        assertEquals(List.of("A", "B", "C", "D", "E", "F"), walk(1));
+        assertEquals(List.of("A", "B", "C", "D", "E", "F"), walk(2));
+    }
+
+    @Test
+    @DisplayName("After a refresh the cursor resumes after the same player")
+    void testCursorAcrossRefresh() throws IOException {
+        when(nbaPlayerService.getAllPlayers()).thenReturn(List.of(
+                player("1", "A"), player("2", "B"), player("3", "C"), player("4", "D")));
+        PlayerListingService.EncodedPage first = listingService.getPage(null, 2, "first_name");
+
+        when(nbaPlayerService.getAllPlayers()).thenReturn(List.of(
+                player("0", "Z"), player("1", "A"), player("2", "B"), player("3", "C"), player("4", "D")));
+        PlayerListingService.EncodedPage second = listingService.getPage(first.getNextCursor(), 2, "first_name");
+
+        assertEquals(List.of("C", "D"), names(second));
+        assertNull(second.getNextCursor());
+        assertThrows(IllegalArgumentException.class, () -> listingService.getPage("not-a-cursor", 2, null));
+    }
+
+    private List<String> walk(int limit) throws IOException {
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            PlayerListingService.EncodedPage page = listingService.getPage(cursor, limit, "first_name");
+            names.addAll(names(page));
+            cursor = page.getNextCursor();
+        } while (cursor != null && ++pages < 20);
+        return names;
+    }
+
+    private List<String> names(PlayerListingService.EncodedPage page) throws IOException {
+        List<String> names = new ArrayList<>();
+        for (JsonNode player : objectMapper.readTree(page.getBody()).get("data")) {
+            names.add(player.get("first_name").asText());
+        }
+        return names;
+    }
+
+    private static NBAPlayerDTO player(String playerId, String name) {
+        return NBAPlayerDTO.builder().playerId(playerId).firstName(name).lastName("Player").build();
+    }
+}
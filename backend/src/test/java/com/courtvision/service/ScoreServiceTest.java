@@ -0,0 +1,179 @@
+package com.courtvision.service;
+
+import com.courtvision.catalog.PlayerCatalog;
+import com.courtvision.dto.LeagueScoreboardSnapshotEvent;
+import com.courtvision.dto.NBAPlayerDTO;
+import com.courtvision.entity.Draft;
+import com.courtvision.entity.DraftPick;
+import com.courtvision.entity.League;
+import com.courtvision.entity.LeagueMember;
+import com.courtvision.entity.LeagueScoreboardEntry;
+import com.courtvision.entity.ScoreCalculation;
+import com.courtvision.entity.ScoringProfile;
+import com.courtvision.entity.User;
+import com.courtvision.repository.DraftPickRepository;
+import com.courtvision.repository.DraftRepository;
+import com.courtvision.repository.LeagueMemberRepository;
+import com.courtvision.repository.LeagueRepository;
+import com.courtvision.repository.LeagueScoreboardRepository;
+import com.courtvision.repository.ScoreCalculationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Score Service Tests")
+class ScoreServiceTest {
+
+    private static final LocalDate STATS_DATE = LocalDate.of(2026, 1, 15);
+
+    // Points, rebounds, assists, steals, blocks, turnovers, fouls
+    private static final long[] LEBRON_TOTALS = {270, 70, 90, 10, 5, 30, 20};
+
+    private static final NBAPlayerDTO LEBRON = NBAPlayerDTO.builder()
+            .playerId("2544").firstName("LeBron").lastName("James").team("Los Angeles Lakers").position("SF")
+            .build();
+
+    private final PlayerCatalog apiCatalog = PlayerCatalog.of(List.of(LEBRON));
+    private final User user = User.builder().id(10L).username("owner").build();
+    private final League league = League.builder().id(1L).name("Test League").build();
+    private final Draft draft = Draft.builder().id(5L).league(league).build();
+
+    private DraftPickRepository draftPickRepository;
+    private LeagueScoreboardRepository leagueScoreboardRepository;
+    private ScoreService scoreService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ScoreCalculationRepository scoreCalculationRepository = mock(ScoreCalculationRepository.class);
+        leagueScoreboardRepository = mock(LeagueScoreboardRepository.class);
+        LeagueRepository leagueRepository = mock(LeagueRepository.class);
+        LeagueMemberRepository leagueMemberRepository = mock(LeagueMemberRepository.class);
+        DraftRepository draftRepository = mock(DraftRepository.class);
+        NBAPlayerService nbaPlayerService = mock(NBAPlayerService.class);
+        PlayerStatService playerStatService = mock(PlayerStatService.class);
+        KafkaTemplate<String, LeagueScoreboardSnapshotEvent> kafkaTemplate = mock(KafkaTemplate.class);
+        draftPickRepository = mock(DraftPickRepository.class);
+
+        when(leagueRepository.findById(1L)).thenReturn(Optional.of(league));
+        when(leagueMemberRepository.findByLeagueIdWithUser(1L))
+                .thenReturn(List.of(LeagueMember.builder().league(league).user(user).build()));
+        when(draftRepository.findByLeagueId(1L)).thenReturn(Optional.of(draft));
+        when(scoreCalculationRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+        when(playerStatService.seasonTotals(eq("2544"), any())).thenReturn(LEBRON_TOTALS);
+        when(nbaPlayerService.resolvePlayer(any(PlayerCatalog.class), anyString())).thenAnswer(invocation -> {
+            PlayerCatalog catalog = invocation.getArgument(0);
+            var match = catalog.resolveByName(invocation.getArgument(1), 0.5, 0.1);
+            return match != null ? match.getPlayer() : null;
+        });
+
+        scoreService = new ScoreService(scoreCalculationRepository, leagueScoreboardRepository, draftPickRepository,
+                leagueRepository, leagueMemberRepository, nbaPlayerService, playerStatService,
+                mock(ScoringLedgerService.class), mock(JobClaimService.class), mock(LeaderboardService.class),
+                kafkaTemplate);
+        ReflectionTestUtils.setField(scoreService, "draftRepository", draftRepository);
+    }
+
+    @Test
+    @DisplayName("A pick made against the bundled list is scored by name once the API catalog loads, and re-linked")
+    void testLocalIdPickScoredAfterApiCatalogLoads() {
+        DraftPick pick = pick("local-lebron-james", "LeBron James");
+        when(draftPickRepository.findByDraftIdOrdered(5L)).thenReturn(List.of(pick));
+
+        Map<Long, ScoreCalculation> scores = scoreService.calculateLeagueScores(1L, run());
+
+        assertEquals(ScoringProfile.defaults().compile().score(LEBRON_TOTALS), scores.get(10L).getTotalScore(), 1e-9);
+        assertEquals("2544", pick.getNbaPlayerId());
+    }
+
+    @Test
+    @DisplayName("A pick whose stored ID the catalog no longer has falls back to its name")
+    void testStaleIdPickFallsBackToName() {
+        DraftPick pick = pick("retired-id", "Lebron James");
+        when(draftPickRepository.findByDraftIdOrdered(5L)).thenReturn(List.of(pick));
+
+        Map<Long, ScoreCalculation> scores = scoreService.calculateLeagueScores(1L, run());
+
+        assertEquals(ScoringProfile.defaults().compile().score(LEBRON_TOTALS), scores.get(10L).getTotalScore(), 1e-9);
+        assertEquals("2544", pick.getNbaPlayerId());
+    }
+
+    @Test
+    @DisplayName("A name match already drafted under its ID in the same draft is scored but not re-linked")
+    void testRelinkSkippedWhenIdAlreadyDrafted() {
+        DraftPick pick = pick("local-lebron-james", "LeBron James");
+        when(draftPickRepository.findByDraftIdOrdered(5L)).thenReturn(List.of(pick));
+        when(draftPickRepository.existsByDraftIdAndNbaPlayerId(anyLong(), eq("2544"))).thenReturn(true);
+
+        scoreService.calculateLeagueScores(1L, run());
+
+        assertEquals("local-lebron-james", pick.getNbaPlayerId());
+    }
+
+    @Test
+    @DisplayName("A league with its own scoring profile scores the same totals differently from the defaults")
+    void testCustomScoringProfile() {
+        when(draftPickRepository.findByDraftIdOrdered(5L)).thenReturn(List.of(pick("2544", "LeBron James")));
+        double defaults = scoreService.calculateLeagueScores(1L, run()).get(10L).getTotalScore();
+
+        // Unset categories keep their default weights
+        league.setScoringProfile(ScoringProfile.builder().points(2.0).turnovers(-2.0).build());
+        double custom = scoreService.calculateLeagueScores(1L, run()).get(10L).getTotalScore();
+
+        assertEquals(270 * 1.0 + 70 * 1.2 + 90 * 1.5 + 10 * 2.0 + 5 * 2.0 - 30 * 0.5 - 20 * 0.2, defaults, 1e-9);
+        assertEquals(270 * 2.0 + 70 * 1.2 + 90 * 1.5 + 10 * 2.0 + 5 * 2.0 - 30 * 2.0 - 20 * 0.2, custom, 1e-9);
+    }
+
+    @Test
+    @DisplayName("Scoring points each user's existing scoreboard entry at the new score instead of adding one")
+    @SuppressWarnings("unchecked")
+    void testScoreboardEntryUpserted() {
+        when(draftPickRepository.findByDraftIdOrdered(5L)).thenReturn(List.of(pick("2544", "LeBron James")));
+        ScoreCalculation previous = ScoreCalculation.builder().id(1L).league(league).user(user).totalScore(1.0).build();
+        LeagueScoreboardEntry entry = LeagueScoreboardEntry.of(previous);
+        entry.setId(7L);
+        when(leagueScoreboardRepository.findByLeagueIds(any())).thenReturn(List.of(entry));
+
+        ScoreCalculation score = scoreService.calculateLeagueScores(1L, run()).get(10L);
+
+        ArgumentCaptor<List<LeagueScoreboardEntry>> upserts = ArgumentCaptor.forClass(List.class);
+        verify(leagueScoreboardRepository).saveAll(upserts.capture());
+        assertEquals(List.of(entry), upserts.getValue());
+        assertSame(score, entry.getScore());
+        assertEquals(score.getTotalScore(), entry.getTotalScore());
+    }
+
+    private ScoringRun run() {
+        return new ScoringRun("test-run", STATS_DATE, apiCatalog);
+    }
+
+    private DraftPick pick(String nbaPlayerId, String playerName) {
+        return DraftPick.builder()
+                .id(100L)
+                .draft(draft)
+                .picker(user)
+                .playerName(playerName)
+                .nbaPlayerId(nbaPlayerId)
+                .build();
+    }
+}
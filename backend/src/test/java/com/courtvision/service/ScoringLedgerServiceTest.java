@@ -0,0 +1,166 @@
+package com.courtvision.service;
+
+import com.courtvision.entity.Draft;
+import com.courtvision.entity.DraftPick;
+import com.courtvision.entity.League;
+import com.courtvision.entity.LeagueMember;
+import com.courtvision.entity.LeagueScoringRun;
+import com.courtvision.entity.LeagueScoringRun.RunStatus;
+import com.courtvision.entity.User;
+import com.courtvision.repository.LeagueScoringRunRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ScoringLedgerService.class)
+@DisplayName("Scoring Ledger Service Tests")
+class ScoringLedgerServiceTest {
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2026, 1, 15);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ScoringLedgerService scoringLedgerService;
+
+    @Autowired
+    private LeagueScoringRunRepository leagueScoringRunRepository;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = User.builder()
+                .username("owner")
+                .email("owner@example.com")
+                .password("password")
+                .solanaWallet("wallet")
+                .build();
+        entityManager.persist(owner);
+    }
+
+    @Test
+    @DisplayName("A rerun after a crash resumes only the leagues the interrupted run did not complete")
+    void testResumeAfterInterruptedRun() {
+        Long done = league("Done").getId();
+        Long crashed = league("Crashed").getId();
+        Long failed = league("Failed").getId();
+
+        // The first run completes one league, dies while scoring another and fails the third
+        for (Long leagueId : new Long[] {done, crashed, failed}) {
+            scoringLedgerService.markStarted(leagueId, RUN_DATE, "run-1");
+        }
+        scoringLedgerService.markCompleted(done, RUN_DATE, "run-1", 3);
+        scoringLedgerService.markFailed(failed, RUN_DATE, new IllegalStateException("timeout"));
+
+        assertEquals(Set.of(done), scoringLedgerService.completedLeagueIds(RUN_DATE));
+        assertTrue(scoringLedgerService.isCompleted(done, RUN_DATE));
+        assertFalse(scoringLedgerService.isCompleted(crashed, RUN_DATE));
+        assertTrue(scoringLedgerService.completedLeagueIds(RUN_DATE.plusDays(1)).isEmpty());
+
+        // The rerun scores the other two; the completed league keeps its single attempt
+        for (Long leagueId : new Long[] {crashed, failed}) {
+            scoringLedgerService.markStarted(leagueId, RUN_DATE, "run-2");
+            scoringLedgerService.markCompleted(leagueId, RUN_DATE, "run-2", 3);
+        }
+
+        assertEquals(Set.of(done, crashed, failed), scoringLedgerService.completedLeagueIds(RUN_DATE));
+        assertEquals(1, entry(done).getAttempts());
+        assertEquals("run-1", entry(done).getRunId());
+        assertEquals(2, entry(failed).getAttempts());
+        assertEquals(RunStatus.COMPLETED, entry(failed).getStatus());
+        assertNull(entry(failed).getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("Only leagues whose picks and members have not changed since their last full scoring are skipped")
+    void testUnchangedLeaguesSkipped() {
+        LocalDateTime later = LocalDateTime.now().plusHours(1);
+        LocalDateTime earlier = LocalDateTime.now().minusHours(1);
+
+        League unchanged = league("Unchanged");
+        member(unchanged);
+        pick(unchanged, "2544");
+        completed(unchanged, RUN_DATE, later);
+
+        // Scored before its member joined and before its pick was made
+        League memberJoined = league("Member joined");
+        member(memberJoined);
+        completed(memberJoined, RUN_DATE, earlier);
+        League pickMade = league("Pick made");
+        pick(pickMade, "2544");
+        completed(pickMade, RUN_DATE, earlier);
+
+        // Stat deltas cannot reach a pick still carrying a bundled-list ID
+        League unlinked = league("Unlinked");
+        pick(unlinked, "local-lebron-james");
+        completed(unlinked, RUN_DATE, later);
+
+        League scoredLongAgo = league("Scored long ago");
+        completed(scoredLongAgo, RUN_DATE.minusDays(5), later);
+        entityManager.flush();
+
+        assertEquals(Set.of(unchanged.getId()), scoringLedgerService.unchangedLeagueIdsScoredSince(RUN_DATE.minusDays(1)));
+    }
+
+    private League league(String name) {
+        League league = League.builder().name(name).creator(owner).build();
+        entityManager.persist(league);
+        return league;
+    }
+
+    private void member(League league) {
+        entityManager.persist(LeagueMember.builder().league(league).user(owner).build());
+    }
+
+    private void pick(League league, String nbaPlayerId) {
+        Draft draft = Draft.builder()
+                .league(league)
+                .currentRound(1)
+                .roundsPerTeam(1)
+                .currentPickOrder(1)
+                .totalPicks(1)
+                .build();
+        entityManager.persist(draft);
+        entityManager.persist(DraftPick.builder()
+                .draft(draft)
+                .picker(owner)
+                .playerName("LeBron James")
+                .nbaPlayerId(nbaPlayerId)
+                .roundNumber(1)
+                .pickNumber(1)
+                .build());
+    }
+
+    private void completed(League league, LocalDate runDate, LocalDateTime completedAt) {
+        leagueScoringRunRepository.save(LeagueScoringRun.builder()
+                .league(league)
+                .runDate(runDate)
+                .status(RunStatus.COMPLETED)
+                .attempts(1)
+                .startedAt(completedAt)
+                .completedAt(completedAt)
+                .build());
+    }
+
+    private LeagueScoringRun entry(Long leagueId) {
+        return leagueScoringRunRepository.findByLeagueIdAndRunDate(leagueId, RUN_DATE).orElseThrow();
+    }
+}
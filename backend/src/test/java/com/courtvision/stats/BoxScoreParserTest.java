@@ -0,0 +1,60 @@
+package com.courtvision.stats;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Box Score Parser Tests")
+class BoxScoreParserTest {
+
+    private final BoxScoreParser parser = new BoxScoreParser(new JsonFactory());
+
+    @Test
+    @DisplayName("A recorded day of box scores parses into one line per player with stats")
+    void testParseRecordedDay() throws IOException {
+        List<StatLine> lines;
+        try (InputStream body = getClass().getResourceAsStream("/boxscores/2026-01-15.json")) {
+            assertNotNull(body);
+            lines = parser.parse(body);
+        }
+
+        assertEquals(List.of("203999", "2544", "1630192", "201939"), lines.stream().map(StatLine::getPlayerId).toList());
+
+        StatLine jokic = lines.get(0);
+        assertEquals(new StatLine("203999", 31, 14, 11, 2, 1, 4, 3, 36.5f), jokic);
+
+        // Nested player reference and long-form stat names
+        StatLine lebron = lines.get(1);
+        assertEquals(new StatLine("2544", 27, 7, 9, 1, 0, 3, 2, 34.5f), lebron);
+
+        // Null stats are left at zero
+        assertEquals(new StatLine("1630192", 0, 0, 0, 0, 0, 0, 0, 0f), lines.get(2));
+
+        // Players nested under a team, with a numeric ID
+        assertEquals(new StatLine("201939", 35, 5, 6, 1, 0, 2, 1, 38f), lines.get(3));
+    }
+
+    @Test
+    @DisplayName("Payloads without games parse to no lines; malformed JSON fails")
+    void testEmptyAndMalformed() throws IOException {
+        assertTrue(parse("{}").isEmpty());
+        assertTrue(parse("{\"games\": []}").isEmpty());
+        assertTrue(parse("[]").isEmpty());
+        assertThrows(IOException.class, () -> parse("{\"games\": [{\"players\": ["));
+    }
+
+    private List<StatLine> parse(String json) throws IOException {
+        return parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,117 @@
+package com.courtvision.stats;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Player Stat Store Tests")
+class PlayerStatStoreTest {
+
+    private static final LocalDate SEASON_START = LocalDate.of(2025, 10, 21);
+    private static final LocalDate DAY_1 = SEASON_START;
+    private static final LocalDate DAY_2 = SEASON_START.plusDays(1);
+    private static final LocalDate DAY_3 = SEASON_START.plusDays(2);
+
+    private final PlayerStatStore store = new PlayerStatStore(SEASON_START, 10);
+
+    @Test
+    @DisplayName("Applying a day reports each player's delta and game counts")
+    void testApplyReportsDeltas() {
+        StatUpdate first = store.apply(Map.of(DAY_1, List.of(line("A", 20, 5), line("B", 10, 2))));
+
+        assertEquals(2, first.getLinesStored());
+        assertDelta(first, "A", new long[] {20, 5, 0, 0, 0, 0, 0}, 0, 1);
+        assertDelta(first, "B", new long[] {10, 2, 0, 0, 0, 0, 0}, 0, 1);
+
+        StatUpdate second = store.apply(Map.of(DAY_2, List.of(line("A", 30, 8))));
+
+        assertEquals(1, second.getDeltas().size());
+        assertDelta(second, "A", new long[] {30, 8, 0, 0, 0, 0, 0}, 1, 2);
+        assertTrue(store.hasDay(DAY_2));
+        assertFalse(store.hasDay(DAY_3));
+    }
+
+    @Test
+    @DisplayName("Re-ingesting a day replaces its lines and reports only the corrections")
+    void testReingestCorrections() {
+        store.apply(Map.of(DAY_1, List.of(line("A", 20, 5), line("B", 10, 2))));
+
+        // A's points corrected, B unchanged, C added
+        StatUpdate correction = store.apply(Map.of(DAY_1, List.of(line("A", 22, 5), line("B", 10, 2), line("C", 4, 1))));
+
+        assertEquals(3, correction.getLinesStored());
+        assertEquals(2, correction.getDeltas().size());
+        assertDelta(correction, "A", new long[] {2, 0, 0, 0, 0, 0, 0}, 1, 1);
+        assertDelta(correction, "C", new long[] {4, 1, 0, 0, 0, 0, 0}, 0, 1);
+
+        // B missing from the re-ingested day loses that game
+        StatUpdate removal = store.apply(Map.of(DAY_1, List.of(line("A", 22, 5), line("C", 4, 1))));
+        assertDelta(removal, "B", new long[] {-10, -2, 0, 0, 0, 0, 0}, 1, 0);
+        assertNull(store.totals("B", SEASON_START, DAY_3));
+
+        // Identical re-ingest changes nothing
+        assertTrue(store.apply(Map.of(DAY_1, List.of(line("A", 22, 5), line("C", 4, 1)))).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Totals and games cover the requested range, clamped to the season")
+    void testTotals() {
+        Map<LocalDate, List<StatLine>> days = new LinkedHashMap<>();
+        days.put(DAY_1, List.of(line("A", 20, 5)));
+        days.put(DAY_2, List.of(line("A", 30, 8)));
+        days.put(DAY_3, List.of(line("B", 12, 3)));
+        // Outside the season: ignored
+        days.put(SEASON_START.minusDays(1), List.of(line("A", 99, 99)));
+        days.put(SEASON_START.plusDays(10), List.of(line("A", 99, 99)));
+        store.apply(days);
+
+        assertArrayEquals(new long[] {50, 13, 0, 0, 0, 0, 0}, store.totals("A", SEASON_START.minusDays(5), DAY_3));
+        assertArrayEquals(new long[] {30, 8, 0, 0, 0, 0, 0}, store.totals("A", DAY_2, SEASON_START.plusDays(30)));
+        assertNull(store.totals("A", DAY_3, DAY_3));
+        assertNull(store.totals("unknown", DAY_1, DAY_3));
+        assertEquals(2, store.gamesPlayed("A", DAY_1, DAY_3));
+        assertEquals(1, store.gamesPlayed("B", DAY_1, DAY_3));
+        assertEquals(2, store.playerCount());
+        assertEquals(3, store.lineCount());
+    }
+
+    @Test
+    @DisplayName("The store grows past its initial player capacity")
+    void testGrowsPlayers() {
+        List<StatLine> lines = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            lines.add(line("P" + i, i, 1));
+        }
+        store.apply(Map.of(DAY_2, lines));
+
+        assertEquals(1200, store.playerCount());
+        assertArrayEquals(new long[] {1199, 1, 0, 0, 0, 0, 0}, store.totals("P1199", DAY_1, DAY_3));
+    }
+
+    private static void assertDelta(StatUpdate update, String playerId, long[] totals, int gamesBefore, int gamesAfter) {
+        StatUpdate.PlayerDelta delta = update.getDeltas().get(playerId);
+        assertArrayEquals(totals, delta.getTotals(), playerId);
+        assertEquals(gamesBefore, delta.getGamesBefore(), playerId);
+        assertEquals(gamesAfter, delta.getGamesAfter(), playerId);
+    }
+
+    private static StatLine line(String playerId, int points, int rebounds) {
+        return StatLine.builder()
+                .playerId(playerId)
+                .points(points)
+                .rebounds(rebounds)
+                .minutes(30f)
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.courtvision.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Single Flight Tests")
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final SingleFlight<Integer> singleFlight = new SingleFlight<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Concurrent callers share one in-flight call")
+    void testCoalescesConcurrentCalls() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(singleFlight.execute(() -> {
+                await(release);
+                return calls.incrementAndGet();
+            }, executor));
+        }
+        assertTrue(singleFlight.isInFlight());
+        release.countDown();
+
+        for (CompletableFuture<Integer> future : futures) {
+            assertSame(futures.get(0), future);
+            assertEquals(1, future.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("A failed call fails every caller and a later call runs again")
+    void testPropagatesExceptions() throws Exception {
+        CompletableFuture<Integer> failed = singleFlight.execute(() -> {
+            throw new IllegalStateException("upstream down");
+        }, executor);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertFalse(singleFlight.isInFlight());
+        assertEquals(2, singleFlight.execute(() -> 2, executor).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("A caller woken by completion starts a new call instead of rejoining the finished one")
+    void testClearsInFlightBeforeCompleting() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> first = singleFlight.execute(() -> {
+            await(release);
+            return calls.incrementAndGet();
+        }, executor);
+
+        // Runs on the completing thread, the moment the first flight completes
+        CompletableFuture<CompletableFuture<Integer>> second = first.thenApply(
+                result -> singleFlight.execute(calls::incrementAndGet, executor));
+        release.countDown();
+
+        CompletableFuture<Integer> reload = second.get(5, TimeUnit.SECONDS);
+        assertNotSame(first, reload);
+        assertEquals(2, reload.get(5, TimeUnit.SECONDS));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("A rejected call fails its future and clears the flight")
+    void testRejectedExecution() {
+        CompletableFuture<Integer> rejected = singleFlight.execute(() -> 1, command -> {
+            throw new RejectedExecutionException("saturated");
+        });
+
+        assertTrue(rejected.isCompletedExceptionally());
+        assertFalse(singleFlight.isInFlight());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}